@@ -266,7 +266,7 @@ main() {
     echo ""
     log_success "=== 배포 완료 ==="
     log_info "서비스 URL: http://[ALB_DNS_NAME]/api/users"
-    log_info "헬스체크: http://[ALB_DNS_NAME]/api/users/actuator/health"
+    log_info "헬스체크: http://[ALB_DNS_NAME]/health (Actuator는 VPC 내부 관리 포트 8091)"
     echo ""
     log_success "모든 작업이 완료되었습니다!"
 }
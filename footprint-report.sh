@@ -0,0 +1,92 @@
+#!/bin/bash
+
+# Team FOG User Service 메모리 사용량 리포트
+# 기본 설정(before)과 lean 프로필 + 컨테이너 JVM 옵션(after)으로 각각 기동하고,
+# 같은 부하를 준 뒤 RSS / 힙 / Metaspace / 스레드 수를 비교합니다.
+#
+# 사용법: ./footprint-report.sh [부하 시간(초, 기본 60)]
+# 환경 변수: PROFILE(기본 local), PORT(기본 8080), MANAGEMENT_PORT(기본 PORT, prod 프로필은 8091), JAVA(기본 java), GRADLE(기본 ./gradlew),
+#           CONCURRENCY(기본 16), APP_ARGS(추가 실행 인자),
+#           CONTAINER_MEMORY(기본 512m, -XX:MaxRAM으로 태스크 메모리 한도를 흉내냄),
+#           LEAN_JAVA_OPTS(기본값: Dockerfile JAVA_OPTS와 동일)
+
+set -e
+
+DURATION=${1:-60}
+PROFILE=${PROFILE:-local}
+PORT=${PORT:-8080}
+JAVA=${JAVA:-java}
+GRADLE=${GRADLE:-./gradlew}
+CONCURRENCY=${CONCURRENCY:-16}
+CONTAINER_MEMORY=${CONTAINER_MEMORY:-512m}
+LEAN_JAVA_OPTS=${LEAN_JAVA_OPTS:-$(sed -n 's/^ENV JAVA_OPTS="\(.*\)"$/\1/p' Dockerfile)}
+WORK_DIR=${WORK_DIR:-build/footprint}
+REPORT_FILE="$WORK_DIR/report.txt"
+BASE_URL="http://localhost:$PORT"
+MANAGEMENT_URL="http://localhost:${MANAGEMENT_PORT:-$PORT}"
+
+cd "$(dirname "$0")"
+rm -rf "$WORK_DIR"
+mkdir -p "$WORK_DIR"
+
+echo "📦 jar 빌드 중..."
+$GRADLE bootJar -q
+
+# /actuator/metrics 값 조회 (첫 measurement 값)
+metric() {
+    curl -sf "$MANAGEMENT_URL/actuator/metrics/$1${2:+?tag=$2}" | sed -n 's/.*"statistic":"VALUE","value":\([0-9.E+-]*\).*/\1/p'
+}
+
+mb() {
+    awk -v v="$1" 'BEGIN { printf "%.1f", v / 1048576 }'
+}
+
+# 부하: 조회 API를 CONCURRENCY개 동시 요청으로 DURATION초 동안 반복 호출
+load() {
+    local end=$(( $(date +%s) + DURATION ))
+    local urls=("/api/users/count" "/health" "/api/users/u000001/name" "/api/auth/availability?userId=u000002&phone=010-1234-5678")
+    while [ "$(date +%s)" -lt "$end" ]; do
+        for i in $(seq 1 "$CONCURRENCY"); do
+            echo "$BASE_URL${urls[$(( RANDOM % ${#urls[@]} ))]}"
+        done | xargs -P "$CONCURRENCY" -n 1 curl -s -o /dev/null
+    done
+}
+
+run() {
+    local name=$1 profiles=$2 java_opts=$3
+    echo "🚀 [$name] 기동: profiles=$profiles JAVA_OPTS=$java_opts"
+    AWS_REGION=${AWS_REGION:-ap-northeast-2} "$JAVA" -XX:MaxRAM="$CONTAINER_MEMORY" $java_opts -jar build/libs/app.jar \
+        --spring.profiles.active="$profiles" --server.port="$PORT" $APP_ARGS > "$WORK_DIR/$name.log" 2>&1 &
+    local pid=$!
+    until curl -sf -o /dev/null "$BASE_URL/health/elb"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "❌ 기동 실패 (로그: $WORK_DIR/$name.log)" >&2
+            exit 1
+        fi
+        sleep 0.5
+    done
+    local idle_rss
+    idle_rss=$(awk '/VmRSS/ { print $2 * 1024 }' "/proc/$pid/status")
+
+    echo "🔥 [$name] 부하 ${DURATION}초 (동시 요청 $CONCURRENCY)"
+    load
+
+    local rss peak heap_used heap_committed heap_max metaspace threads
+    rss=$(awk '/VmRSS/ { print $2 * 1024 }' "/proc/$pid/status")
+    peak=$(awk '/VmHWM/ { print $2 * 1024 }' "/proc/$pid/status")
+    heap_used=$(metric jvm.memory.used area:heap)
+    heap_committed=$(metric jvm.memory.committed area:heap)
+    heap_max=$(metric jvm.memory.max area:heap)
+    metaspace=$(metric jvm.memory.used id:Metaspace)
+    threads=$(metric jvm.threads.live)
+    kill "$pid" && wait "$pid" 2>/dev/null || true
+
+    printf '%-7s RSS(idle)=%7sMB RSS(load)=%7sMB RSS(peak)=%7sMB heap used/committed/max=%s/%s/%sMB metaspace=%sMB threads=%s\n' \
+        "$name" "$(mb "$idle_rss")" "$(mb "$rss")" "$(mb "$peak")" \
+        "$(mb "$heap_used")" "$(mb "$heap_committed")" "$(mb "$heap_max")" "$(mb "$metaspace")" "${threads%.*}" | tee -a "$REPORT_FILE"
+}
+
+run before "$PROFILE" ""
+run after "$PROFILE,lean" "$LEAN_JAVA_OPTS"
+
+echo "✅ 리포트: $REPORT_FILE"
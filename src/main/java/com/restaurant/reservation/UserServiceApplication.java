@@ -1,15 +1,20 @@
 package com.restaurant.reservation;
 
+import com.restaurant.reservation.service.UserBulkImportRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 import jakarta.annotation.PostConstruct;
 import java.util.TimeZone;
 
-@SpringBootApplication
+// R2DBC 자동 설정 제외: ConnectionFactory 빈이 생기면 R2DBC 트랜잭션 매니저/스키마 초기화가 JPA 설정과 충돌
+// 리액티브 읽기 API는 ReactiveUserReadService가 자체 커넥션 풀을 관리
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 @EnableScheduling
 public class UserServiceApplication {
 
@@ -18,7 +23,12 @@ public class UserServiceApplication {
         TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
         System.setProperty("user.timezone", "Asia/Seoul");
         
-        SpringApplication.run(UserServiceApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(UserServiceApplication.class, args);
+
+        // 사용자 일괄 등록 CLI 모드(user-import.file)는 등록 후 종료 (종료 코드: UserBulkImportRunner)
+        if (context.getBeanProvider(UserBulkImportRunner.class).getIfAvailable() != null) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 
     @PostConstruct
@@ -9,6 +9,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -16,6 +18,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -86,7 +92,7 @@ public class CognitoAuthenticationFilter extends OncePerRequestFilter {
                     // 데이터베이스에서 사용자 정보 조회
                     UserDetails userDetails = userDetailsService.loadUserByUsername(userId);
                     UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        new UsernamePasswordAuthenticationToken(userDetails, null, resolveAuthorities(userDetails, userInfo));
                     
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     logger.debug("Cognito 인증 성공: userId={}", userId);
@@ -101,6 +107,21 @@ public class CognitoAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    /**
+     * 기본 권한에 Cognito 그룹(cognito:groups)을 ROLE_<그룹명> 권한으로 추가
+     * 예: admin 그룹 -> ROLE_ADMIN
+     * validateToken(JWKS 서명 검증)을 통과한 토큰의 클레임만 사용합니다.
+     */
+    private Collection<GrantedAuthority> resolveAuthorities(UserDetails userDetails, Map<String, Object> userInfo) {
+        List<GrantedAuthority> authorities = new ArrayList<>(userDetails.getAuthorities());
+        if (userInfo.get("cognito:groups") instanceof Collection<?> groups) {
+            for (Object group : groups) {
+                authorities.add(new SimpleGrantedAuthority("ROLE_" + group.toString().toUpperCase(Locale.ROOT)));
+            }
+        }
+        return authorities;
+    }
+
     /**
      * 요청에서 JWT 토큰을 추출
      */
@@ -1,14 +1,20 @@
 package com.restaurant.reservation.config;
 
+import com.restaurant.reservation.entity.PhoneNumber;
 import com.restaurant.reservation.entity.User;
+import com.restaurant.reservation.event.UserChangedEvent;
 import com.restaurant.reservation.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 
@@ -22,27 +28,49 @@ public class CustomUserDetailsService implements UserDetailsService {
     private static final Logger logger = LoggerFactory.getLogger(CustomUserDetailsService.class);
     
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Timer loadExistingTimer;
+    private final Timer loadCreatedTimer;
     
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, ApplicationEventPublisher eventPublisher,
+                                    MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.loadExistingTimer = principalLoadTimer(meterRegistry, "existing");
+        this.loadCreatedTimer = principalLoadTimer(meterRegistry, "created");
+    }
+
+    private static Timer principalLoadTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("auth.principal.load")
+                .description("인증 사용자 로드 시간 (existing=기존 사용자, created=자동 생성)")
+                .tag("result", result)
+                .register(meterRegistry);
     }
     
+    /**
+     * 조회 후 없으면 생성하므로 읽기/쓰기 트랜잭션으로 실행 (Standby 복제 지연으로 인한 중복 생성 방지)
+     */
     @Override
+    @Transactional
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
         logger.debug("사용자 정보 로드 요청: userId={}", userId);
+        Timer.Sample sample = Timer.start(meterRegistry);
         
-        User user = userRepository.findById(userId)
-                .orElseGet(() -> {
-                    logger.info("새로운 Cognito 사용자 발견: userId={}, 자동 생성 중...", userId);
-                    // 새로운 Cognito 사용자를 자동으로 생성
-                    return createNewUserFromCognito(userId);
-                });
-        
-
+        // 요청마다 호출되므로 COUNT 쿼리(existsById) 대신 2차 캐시를 거치는 PK 조회로 확인
+        if (userRepository.findById(userId).isEmpty()) {
+            logger.info("새로운 Cognito 사용자 발견: userId={}, 자동 생성 중...", userId);
+            // 새로운 Cognito 사용자를 자동으로 생성
+            createNewUserFromCognito(userId);
+            sample.stop(loadCreatedTimer);
+        } else {
+            sample.stop(loadExistingTimer);
+        }
         
         // Spring Security UserDetails 객체 생성
         UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUserId())
+                .username(userId)
                 .password("N/A") // Cognito 사용자는 로컬 패스워드가 없음
                 .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")))
                 .accountExpired(false)
@@ -62,12 +90,14 @@ public class CustomUserDetailsService implements UserDetailsService {
         User newUser = new User();
         newUser.setUserId(userId);
         newUser.setUserName("Cognito User");
-        newUser.setPhoneNumber("000-0000-0000"); // 임시 전화번호
+        newUser.setPhoneNumber(PhoneNumber.ofStored("000-0000-0000")); // 임시 전화번호 (유효하지 않은 번호이므로 전화번호 키는 null)
         newUser.setUserLocation("Unknown");
 
 
         
         User savedUser = userRepository.save(newUser);
+        eventPublisher.publishEvent(UserChangedEvent.created(
+                savedUser.getUserId(), savedUser.getUserName(), savedUser.getUserLocation()));
         logger.info("새로운 Cognito 사용자 생성 완료: userId={}", userId);
         return savedUser;
     }
@@ -0,0 +1,37 @@
+package com.restaurant.reservation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * gRPC 내부 API 서버 설정 클래스
+ * 
+ * application.yml의 grpc.server 설정을 바인딩합니다.
+ * HTTP(server.port)와 별도 포트에서 HTTP/2(plaintext)로 동작하며, VPC 내부 서비스 간 호출만 대상으로 합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "grpc.server")
+@Getter
+@Setter
+public class GrpcServerProperties {
+
+    /** gRPC 서버 사용 여부 */
+    private boolean enabled = false;
+
+    /** 수신 포트 */
+    private int port = 9090;
+
+    /** 커넥션(HTTP/2)당 동시 호출 수 제한 */
+    private int maxConcurrentCallsPerConnection = 100;
+
+    /** BatchGetUsers 요청당 최대 사용자 수 */
+    private int maxBatchSize = 1000;
+
+    /** BatchGetUsers에서 한 번에 조회할 사용자 수 (조회 단위로 스트리밍) */
+    private int batchChunkSize = 100;
+
+    /** 종료 시 진행 중인 호출을 기다리는 시간(초) */
+    private long shutdownGraceSeconds = 10;
+}
@@ -0,0 +1,205 @@
+package com.restaurant.reservation.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿼리 계측 DataSource 데코레이터
+ * 
+ * 커넥션/Statement/ResultSet을 프록시로 감싸 현재 {@link QueryLabel} 기준으로
+ * - 쿼리 지연 시간 (jdbc.query, 퍼센타일 히스토그램)
+ * - 조회/변경 행 수 (jdbc.query.rows)
+ * 를 기록하고, 라벨별 fetch size를 Statement 생성 시점에 적용합니다.
+ * 
+ * show-sql 없이도 느린 쿼리와 대량 조회 지점을 지표로 확인할 수 있습니다.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final MeterRegistry meterRegistry;
+    private final JdbcInstrumentationProperties properties;
+    private final ConcurrentMap<String, QueryMeters> metersByLabel = new ConcurrentHashMap<>();
+
+    public InstrumentedDataSource(DataSource targetDataSource, MeterRegistry meterRegistry,
+                                  JdbcInstrumentationProperties properties) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection(username, password)));
+    }
+
+    private QueryMeters meters(String label) {
+        return metersByLabel.computeIfAbsent(label, key -> new QueryMeters(
+                Timer.builder("jdbc.query")
+                        .description("JDBC 쿼리 실행 시간 (Repository 메서드 단위)")
+                        .tag("query", key)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                DistributionSummary.builder("jdbc.query.rows")
+                        .description("JDBC 쿼리별 조회/변경 행 수")
+                        .tag("query", key)
+                        .baseUnit("rows")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record QueryMeters(Timer latency, DistributionSummary rows) {
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            if (!(result instanceof Statement statement)) {
+                return result;
+            }
+
+            String label = QueryLabel.current();
+            int fetchSize = properties.fetchSizeFor(label);
+            if (fetchSize > 0) {
+                statement.setFetchSize(fetchSize);
+            }
+
+            StatementHandler handler = new StatementHandler(statement);
+            if (statement instanceof CallableStatement) {
+                return proxy(CallableStatement.class, handler);
+            }
+            if (statement instanceof PreparedStatement) {
+                return proxy(PreparedStatement.class, handler);
+            }
+            return proxy(Statement.class, handler);
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private QueryMeters lastMeters;
+
+        StatementHandler(Statement target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            Object result = invokeTarget(target, method, args);
+            if ("getResultSet".equals(name) && result instanceof ResultSet resultSet && lastMeters != null) {
+                return proxy(ResultSet.class, new ResultSetHandler(resultSet, lastMeters));
+            }
+            return result;
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            QueryMeters meters = meters(QueryLabel.current());
+            lastMeters = meters;
+            long start = System.nanoTime();
+            try {
+                Object result = invokeTarget(target, method, args);
+                if (result instanceof ResultSet resultSet) {
+                    return proxy(ResultSet.class, new ResultSetHandler(resultSet, meters));
+                }
+                if (result instanceof Integer updateCount) {
+                    meters.rows().record(Math.max(updateCount, 0));
+                } else if (result instanceof Long updateCount) {
+                    meters.rows().record(Math.max(updateCount, 0));
+                } else if (result instanceof int[] batchCounts) {
+                    long total = 0;
+                    for (int count : batchCounts) {
+                        total += Math.max(count, 0);
+                    }
+                    meters.rows().record(total);
+                }
+                return result;
+            } finally {
+                meters.latency().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private static class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final QueryMeters meters;
+        private long rowCount;
+        private boolean recorded;
+
+        ResultSetHandler(ResultSet target, QueryMeters meters) {
+            this.target = target;
+            this.meters = meters;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("next".equals(name)) {
+                boolean hasNext = (Boolean) invokeTarget(target, method, args);
+                if (hasNext) {
+                    rowCount++;
+                } else {
+                    record();
+                }
+                return hasNext;
+            }
+            if ("close".equals(name)) {
+                record();
+            }
+            return invokeTarget(target, method, args);
+        }
+
+        private void record() {
+            if (!recorded) {
+                recorded = true;
+                meters.rows().record(rowCount);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.restaurant.reservation.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Jackson 직렬화 설정
+ * 
+ * - Blackbird 모듈: getter/생성자 호출을 리플렉션 대신 LambdaMetafactory로 생성한 함수로 처리
+ *   (Spring Boot가 Module 빈을 ObjectMapper에 자동 등록)
+ * - 응답 record 타입별 ObjectWriter 캐시: 매 응답마다 ObjectWriter를 만들고 루트 직렬화기를 찾는 과정을 생략
+ * - CBOR/Smile 컨버터: 서비스 간 호출에서 Accept 헤더로 바이너리 포맷 선택 (브라우저 기본값은 JSON)
+ */
+@Configuration
+public class JacksonConfig {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Spring Boot 기본 JSON 컨버터 대체 (같은 ObjectMapper 사용)
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new RecordWriterCachingConverter(objectMapper);
+    }
+
+    /**
+     * CBOR/Smile 컨버터는 JSON과 같은 Spring Boot 설정(모듈, @JsonComponent 등)으로 만든 ObjectMapper 사용
+     * (Jackson2ObjectMapperBuilder는 prototype 빈이므로 빈마다 새 빌더가 주입됨)
+     * 목록 마지막에 추가되므로 Accept에 명시한 경우에만 선택됩니다.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * record 응답은 타입별로 루트 직렬화기를 미리 찾아 둔 ObjectWriter를 재사용합니다.
+     * 이 서비스는 @JsonView/필터를 사용하지 않으므로 기본 ObjectWriter 설정은 항상 같습니다.
+     * Map, 컬렉션 등 그 외 응답은 기존 방식 그대로 처리합니다.
+     */
+    static class RecordWriterCachingConverter extends MappingJackson2HttpMessageConverter {
+
+        private final ConcurrentMap<Class<?>, ObjectWriter> recordWriters = new ConcurrentHashMap<>();
+
+        RecordWriterCachingConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable JavaType javaType,
+                                               @Nullable MediaType contentType) {
+            // record는 final이므로 선언 타입과 실제 값의 타입이 같음
+            if (javaType == null || !javaType.getRawClass().isRecord()) {
+                return writer;
+            }
+            return recordWriters.computeIfAbsent(javaType.getRawClass(), writer::forType);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.restaurant.reservation.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * JDBC 계측 설정
+ * 
+ * - 애플리케이션 기본 DataSource("dataSource")를 {@link InstrumentedDataSource}로 감쌉니다.
+ *   (읽기/쓰기 라우팅 사용 시에도 라우팅 DataSource 바깥에서 한 번만 계측)
+ * - 기동 완료 후 Oracle 암시적 Statement 캐시 활성화 여부와 크기를 로그/지표로 보고합니다.
+ */
+@Configuration
+public class JdbcInstrumentationConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcInstrumentationConfig.class);
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+    private static final String ORACLE_CONNECTION_CLASS = "oracle.jdbc.OracleConnection";
+
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                        ObjectProvider<JdbcInstrumentationProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof InstrumentedDataSource)) {
+                    JdbcInstrumentationProperties instrumentationProperties = properties.getObject();
+                    if (instrumentationProperties.isEnabled()) {
+                        return new InstrumentedDataSource(dataSource, meterRegistry.getObject(), instrumentationProperties);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportStatementCache(ApplicationReadyEvent event) {
+        DataSource dataSource = event.getApplicationContext().getBean(DATA_SOURCE_BEAN_NAME, DataSource.class);
+        MeterRegistry meterRegistry = event.getApplicationContext().getBean(MeterRegistry.class);
+        try (Connection connection = dataSource.getConnection()) {
+            Class<?> oracleConnectionClass = Class.forName(ORACLE_CONNECTION_CLASS);
+            if (!connection.isWrapperFor(oracleConnectionClass)) {
+                logger.info("Oracle 커넥션이 아니므로 Statement 캐시 보고를 생략합니다");
+                return;
+            }
+            Object oracleConnection = connection.unwrap(oracleConnectionClass);
+            boolean cachingEnabled = (Boolean) oracleConnectionClass.getMethod("getImplicitCachingEnabled").invoke(oracleConnection);
+            int cacheSize = (Integer) oracleConnectionClass.getMethod("getStatementCacheSize").invoke(oracleConnection);
+
+            Gauge.builder("jdbc.statement.cache.size", () -> cacheSize)
+                    .description("Oracle 암시적 Statement 캐시 크기 (커넥션당)")
+                    .register(meterRegistry);
+            Gauge.builder("jdbc.statement.cache.enabled", () -> cachingEnabled ? 1 : 0)
+                    .description("Oracle 암시적 Statement 캐시 활성화 여부 (1=활성)")
+                    .register(meterRegistry);
+            logger.info("Oracle Statement 캐시: enabled={}, size={}", cachingEnabled, cacheSize);
+        } catch (ClassNotFoundException e) {
+            logger.info("Oracle JDBC 드라이버가 없어 Statement 캐시 보고를 생략합니다");
+        } catch (Exception e) {
+            logger.warn("Oracle Statement 캐시 정보 조회 실패: {}", e.getMessage());
+        }
+    }
+}
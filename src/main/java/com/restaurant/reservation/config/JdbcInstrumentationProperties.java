@@ -0,0 +1,35 @@
+package com.restaurant.reservation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JDBC 쿼리 계측 설정 클래스
+ * 
+ * application.yml의 jdbc.instrumentation 설정을 바인딩합니다.
+ * fetch-sizes의 키는 "Repository.method" 형식의 쿼리 라벨입니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "jdbc.instrumentation")
+@Getter
+@Setter
+public class JdbcInstrumentationProperties {
+
+    /** 쿼리별 지연/행 수 계측 여부 */
+    private boolean enabled = true;
+
+    /** 라벨별 설정이 없을 때 적용할 fetch size (0이면 드라이버 기본값 사용) */
+    private int defaultFetchSize = 0;
+
+    /** 쿼리 라벨별 fetch size (Oracle에서는 해당 Statement의 row prefetch) */
+    private Map<String, Integer> fetchSizes = new HashMap<>();
+
+    public int fetchSizeFor(String label) {
+        return fetchSizes.getOrDefault(label, defaultFetchSize);
+    }
+}
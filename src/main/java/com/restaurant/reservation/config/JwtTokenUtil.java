@@ -1,28 +1,44 @@
 package com.restaurant.reservation.config;
 
 import com.auth0.jwk.Jwk;
+import com.auth0.jwk.JwkException;
 import com.auth0.jwk.JwkProvider;
-import com.auth0.jwk.UrlJwkProvider;
+import com.auth0.jwk.JwkProviderBuilder;
+import com.auth0.jwk.SigningKeyNotFoundException;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.math.BigInteger;
 import java.net.URL;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * JWT 토큰 유틸리티 클래스
  * 
  * AWS Cognito JWT 토큰의 검증과 디코딩을 담당합니다.
+ * 토큰은 Cognito JWKS 공개키로 RS256 서명을 검증한 뒤에만 유효로 판단합니다.
+ * JWKS는 JwkProvider 캐시(kid별, JWKS_CACHE_HOURS)에 보관하며, 모르는 kid인 경우에만 다시 조회합니다.
  * 
  * @author Team-FOG
  * @version 1.0
@@ -32,40 +48,116 @@ import java.util.Map;
 public class JwtTokenUtil {
     
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenUtil.class);
+
+    // 토큰 검증 결과 (auth.jwt.validation 타이머의 outcome 태그)
+    private static final String OUTCOME_VALID = "valid";
+    private static final String OUTCOME_EMPTY = "empty";
+    private static final String OUTCOME_INVALID_TYPE = "invalid_type";
+    private static final String OUTCOME_INVALID_ISSUER = "invalid_issuer";
+    private static final String OUTCOME_INVALID_AUDIENCE = "invalid_audience";
+    private static final String OUTCOME_EXPIRED = "expired";
+    private static final String OUTCOME_UNKNOWN_KEY = "unknown_key";
+    private static final String OUTCOME_INVALID_SIGNATURE = "invalid_signature";
+    private static final String OUTCOME_ERROR = "error";
+
+    // JWKS 캐시 (Cognito 키는 거의 교체되지 않음, 모르는 kid 조회는 분당 10회로 제한)
+    private static final int JWKS_CACHE_SIZE = 10;
+    private static final long JWKS_CACHE_HOURS = 6;
+    private static final int JWKS_TIMEOUT_MS = 2000;
+
     private final AwsCognitoConfig cognitoConfig;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> validationTimers;
+    private volatile JwkProvider jwkProvider;
     
-    public JwtTokenUtil(AwsCognitoConfig cognitoConfig) {
+    @Autowired
+    public JwtTokenUtil(AwsCognitoConfig cognitoConfig, MeterRegistry meterRegistry) {
+        this(cognitoConfig, meterRegistry, null);
+    }
+
+    /**
+     * JwkProvider 지정 생성자 (null이면 aws.cognito.jwks-url로 첫 검증 시 생성)
+     */
+    JwtTokenUtil(AwsCognitoConfig cognitoConfig, MeterRegistry meterRegistry, JwkProvider jwkProvider) {
         this.cognitoConfig = cognitoConfig;
         this.objectMapper = new ObjectMapper();
+        this.meterRegistry = meterRegistry;
+        this.jwkProvider = jwkProvider;
+        this.validationTimers = Stream.of(OUTCOME_VALID, OUTCOME_EMPTY, OUTCOME_INVALID_TYPE, OUTCOME_INVALID_ISSUER,
+                        OUTCOME_INVALID_AUDIENCE, OUTCOME_EXPIRED, OUTCOME_UNKNOWN_KEY, OUTCOME_INVALID_SIGNATURE,
+                        OUTCOME_ERROR)
+                .collect(Collectors.toUnmodifiableMap(outcome -> outcome, outcome -> Timer.builder("auth.jwt.validation")
+                        .description("JWT 토큰 검증 시간 (결과별)")
+                        .tag("outcome", outcome)
+                        .register(meterRegistry)));
+    }
+
+    /**
+     * Cognito JWKS 조회기 (캐시 + 조회 횟수 제한, 첫 사용 시 생성)
+     */
+    private JwkProvider jwkProvider() throws Exception {
+        JwkProvider provider = jwkProvider;
+        if (provider == null) {
+            synchronized (this) {
+                provider = jwkProvider;
+                if (provider == null) {
+                    provider = new JwkProviderBuilder(new URL(cognitoConfig.getJwksUrl()))
+                            .cached(JWKS_CACHE_SIZE, JWKS_CACHE_HOURS, TimeUnit.HOURS)
+                            .rateLimited(10, 1, TimeUnit.MINUTES)
+                            .timeouts(JWKS_TIMEOUT_MS, JWKS_TIMEOUT_MS)
+                            .build();
+                    jwkProvider = provider;
+                }
+            }
+        }
+        return provider;
     }
     
     /**
      * JWT 토큰 검증
+     * 검증 결과(outcome)별 소요 시간을 auth.jwt.validation 타이머로 기록합니다.
      */
     public boolean validateToken(String token) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome;
+        try {
+            outcome = checkToken(token, jwkProvider());
+        } catch (Exception e) {
+            logger.error("JWKS 조회기 생성 중 오류 발생: jwksUrl={}", cognitoConfig.getJwksUrl(), e);
+            outcome = OUTCOME_ERROR;
+        }
+        sample.stop(validationTimers.get(outcome));
+        return OUTCOME_VALID.equals(outcome);
+    }
+
+    /**
+     * 토큰 검증 후 결과(outcome) 반환
+     * 클레임(token_use, iss, aud, exp)을 먼저 확인하고, 통과한 토큰만 JWKS 공개키로 서명을 검증합니다.
+     */
+    private String checkToken(String token, JwkProvider provider) {
         try {
             if (token == null || token.isEmpty()) {
                 logger.warn("토큰이 null이거나 비어있습니다");
-                return false;
+                return OUTCOME_EMPTY;
             }
             
-            // JWT 토큰 디코딩 (서명 검증 없이)
+            // JWT 토큰 디코딩 (서명은 아래에서 검증)
             DecodedJWT decodedJWT = JWT.decode(token);
             
             // 토큰 타입 확인 (ID 토큰 또는 Access 토큰 허용)
             String tokenUse = decodedJWT.getClaim("token_use").asString();
             if (!"id".equals(tokenUse) && !"access".equals(tokenUse)) {
                 logger.warn("토큰 타입이 올바르지 않습니다: {}", tokenUse);
-                return false;
+                return OUTCOME_INVALID_TYPE;
             }
             
             // 발급자(issuer) 확인
             String issuer = decodedJWT.getIssuer();
-            String expectedIssuer = "https://cognito-idp." + cognitoConfig.getRegion() + ".amazonaws.com/" + cognitoConfig.getUserPoolId();
+            String expectedIssuer = expectedIssuer();
             if (!expectedIssuer.equals(issuer)) {
                 logger.warn("토큰 발급자가 올바르지 않습니다: {}", issuer);
-                return false;
+                return OUTCOME_INVALID_ISSUER;
             }
             
             // 대상(audience) 확인 (Access Token의 경우 aud 클레임이 없을 수 있음)
@@ -74,7 +166,7 @@ public class JwtTokenUtil {
                 String audience = audiences.get(0);
                 if (!cognitoConfig.getClientId().equals(audience)) {
                     logger.warn("토큰 대상이 올바르지 않습니다: {}", audience);
-                    return false;
+                    return OUTCOME_INVALID_AUDIENCE;
                 }
             } else {
                 logger.debug("토큰에 audience 클레임이 없습니다 (Access Token일 가능성)");
@@ -83,17 +175,85 @@ public class JwtTokenUtil {
             // 만료 시간 확인
             if (decodedJWT.getExpiresAt() == null || decodedJWT.getExpiresAt().getTime() < System.currentTimeMillis()) {
                 logger.warn("토큰이 만료되었습니다");
-                return false;
+                return OUTCOME_EXPIRED;
+            }
+
+            // 서명 확인 (Cognito는 RS256만 사용, alg=none 등은 JWKS 조회 없이 거부)
+            if (!"RS256".equals(decodedJWT.getAlgorithm()) || decodedJWT.getKeyId() == null) {
+                logger.warn("지원하지 않는 서명 방식입니다: alg={}, kid={}", decodedJWT.getAlgorithm(), decodedJWT.getKeyId());
+                return OUTCOME_INVALID_SIGNATURE;
             }
+            Jwk jwk = provider.get(decodedJWT.getKeyId());
+            JWTVerifier verifier = JWT.require(Algorithm.RSA256((RSAPublicKey) jwk.getPublicKey(), null))
+                    .withIssuer(expectedIssuer)
+                    .build();
+            verifier.verify(decodedJWT);
             
             logger.debug("JWT 토큰 검증 성공");
-            return true;
+            return OUTCOME_VALID;
             
+        } catch (SigningKeyNotFoundException e) {
+            logger.warn("JWKS에 없는 서명 키입니다: {}", e.getMessage());
+            return OUTCOME_UNKNOWN_KEY;
+        } catch (JWTVerificationException e) {
+            logger.warn("JWT 서명 검증 실패: {}", e.getMessage());
+            return OUTCOME_INVALID_SIGNATURE;
         } catch (Exception e) {
             logger.error("JWT 토큰 검증 중 오류 발생", e);
-            return false;
+            return OUTCOME_ERROR;
         }
     }
+
+    private String expectedIssuer() {
+        return "https://cognito-idp." + cognitoConfig.getRegion() + ".amazonaws.com/" + cognitoConfig.getUserPoolId();
+    }
+
+    /**
+     * 기동 워밍업용 토큰 검증 경로 실행
+     * 
+     * 임시 RSA 키로 서명한 토큰을 그 키 하나만 가진 JwkProvider로 검증합니다.
+     * 운영 JWKS 조회기와 분리되어 있어 validateToken은 이 토큰을 받아들이지 않으며,
+     * auth.jwt.validation 타이머에도 기록하지 않습니다.
+     * 
+     * @return 검증에 성공한 횟수 (스레드 인터럽트 시 중단)
+     */
+    public int warmUp(int iterations) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        Jwk warmUpKey = Jwk.fromValues(Map.of(
+                "kid", "warm-up", "kty", "RSA", "alg", "RS256", "use", "sig",
+                "n", base64Url(publicKey.getModulus()),
+                "e", base64Url(publicKey.getPublicExponent())));
+        JwkProvider warmUpProvider = keyId -> {
+            if (!"warm-up".equals(keyId)) {
+                throw new SigningKeyNotFoundException("워밍업 키가 아닙니다: " + keyId, null);
+            }
+            return warmUpKey;
+        };
+
+        String token = JWT.create()
+                .withKeyId("warm-up")
+                .withSubject("warm-up")
+                .withIssuer(expectedIssuer())
+                .withAudience(cognitoConfig.getClientId())
+                .withClaim("token_use", "id")
+                .withExpiresAt(Instant.now().plus(1, ChronoUnit.HOURS))
+                .sign(Algorithm.RSA256(publicKey, (RSAPrivateKey) keyPair.getPrivate()));
+
+        int valid = 0;
+        for (int i = 0; i < iterations && !Thread.currentThread().isInterrupted(); i++) {
+            if (OUTCOME_VALID.equals(checkToken(token, warmUpProvider))) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    private static String base64Url(BigInteger value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.toByteArray());
+    }
     
     /**
      * JWT 토큰에서 사용자 정보 추출
@@ -151,40 +311,9 @@ public class JwtTokenUtil {
     }
     
     /**
-     * RSA 공개키로 JWT 서명 검증 (선택적)
-     * 실제 운영에서는 JWKS를 통해 공개키를 가져와서 검증
+     * RSA 공개키로 JWT 서명 검증 (클레임 검증 포함, validateToken과 동일)
      */
     public boolean verifyTokenSignature(String token) {
-        try {
-            DecodedJWT decodedJWT = JWT.decode(token);
-            String kid = decodedJWT.getKeyId();
-            
-            // JWKS에서 공개키 가져오기
-            JwkProvider provider = new UrlJwkProvider(new URL(cognitoConfig.getJwksUrl()));
-            Jwk jwk = provider.get(kid);
-            RSAPublicKey publicKey = (RSAPublicKey) jwk.getPublicKey();
-            
-            // 알고리즘 생성
-            Algorithm algorithm = Algorithm.RSA256(publicKey, null);
-            
-            // JWT 검증기 생성
-            JWTVerifier verifier = JWT.require(algorithm)
-                    .withIssuer("https://cognito-idp." + cognitoConfig.getRegion() + ".amazonaws.com/" + cognitoConfig.getUserPoolId())
-                    .withAudience(cognitoConfig.getClientId())
-                    .build();
-            
-            // 토큰 검증
-            verifier.verify(token);
-            
-            logger.debug("JWT 서명 검증 성공");
-            return true;
-            
-        } catch (JWTVerificationException e) {
-            logger.warn("JWT 서명 검증 실패: {}", e.getMessage());
-            return false;
-        } catch (Exception e) {
-            logger.error("JWT 서명 검증 중 오류 발생", e);
-            return false;
-        }
+        return validateToken(token);
     }
 }
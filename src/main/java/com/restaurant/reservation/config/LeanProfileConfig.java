@@ -0,0 +1,38 @@
+package com.restaurant.reservation.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.Arrays;
+
+/**
+ * lean 프로필 설정 (512MB 태스크용, application-lean.yml)
+ * 
+ * lean 프로필은 spring.main.lazy-initialization=true로 빈을 처음 사용할 때 생성합니다.
+ * 요청 경로의 컨트롤러는 기동 시 생성하여 (의존하는 서비스/Repository/EntityManagerFactory 포함)
+ * 첫 요청이 초기화 비용을 떠안지 않도록 하고, 관리자 API(/api/admin)처럼 드물게 쓰는 빈만 지연 생성합니다.
+ * 
+ * @Scheduled 빈과 SmartLifecycle 빈은 Spring Boot가 지연 생성 대상에서 제외합니다.
+ */
+@Configuration
+@Profile("lean")
+public class LeanProfileConfig {
+
+    private static final String ADMIN_PATH_PREFIX = "/api/admin";
+
+    @Bean
+    public static LazyInitializationExcludeFilter requestPathControllerExcludeFilter() {
+        return (beanName, beanDefinition, beanType) ->
+                AnnotatedElementUtils.hasAnnotation(beanType, Controller.class) && !isAdminController(beanType);
+    }
+
+    private static boolean isAdminController(Class<?> beanType) {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(beanType, RequestMapping.class);
+        return mapping != null && Arrays.stream(mapping.path()).anyMatch(path -> path.startsWith(ADMIN_PATH_PREFIX));
+    }
+}
@@ -0,0 +1,35 @@
+package com.restaurant.reservation.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.restaurant.reservation.entity.PhoneNumber;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * PhoneNumber JSON 직렬화 설정
+ * 
+ * 기존 응답과 같이 국제 형식 문자열(예: "+82 10 1234 5678")로 읽고 씁니다.
+ */
+@JsonComponent
+public class PhoneNumberJsonComponent {
+
+    public static class Serializer extends JsonSerializer<PhoneNumber> {
+        @Override
+        public void serialize(PhoneNumber value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeString(value.international());
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<PhoneNumber> {
+        @Override
+        public PhoneNumber deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PhoneNumber.parse(parser.getValueAsString());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.restaurant.reservation.config;
+
+/**
+ * 현재 스레드에서 실행 중인 쿼리의 라벨 (예: "UserRepository.findExistingUserIds")
+ * 
+ * Repository 메서드 호출 시 자동으로 설정되며, Repository를 거치지 않는 JDBC 작업은
+ * {@link #open(String)}으로 직접 라벨을 지정할 수 있습니다.
+ */
+public final class QueryLabel {
+
+    public static final String UNLABELED = "unlabeled";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private QueryLabel() {
+    }
+
+    public static String current() {
+        String label = CURRENT.get();
+        return label != null ? label : UNLABELED;
+    }
+
+    /**
+     * 라벨을 지정하고, close 시 이전 라벨로 복원
+     */
+    public static Scope open(String label) {
+        String previous = CURRENT.get();
+        CURRENT.set(label);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
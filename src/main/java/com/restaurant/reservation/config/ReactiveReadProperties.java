@@ -0,0 +1,38 @@
+package com.restaurant.reservation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리액티브 읽기 전용 API 설정 클래스
+ * 
+ * application.yml의 reactive-read 설정을 바인딩합니다.
+ * JDBC 커넥션 풀과 별도의 R2DBC 커넥션 풀을 사용합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "reactive-read")
+@Getter
+@Setter
+public class ReactiveReadProperties {
+
+    /** /api/rx/users 엔드포인트 사용 여부 */
+    private boolean enabled = false;
+
+    /** R2DBC URL (예: r2dbc:oracle://host:1521/service, r2dbc:h2:mem:///primary) */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /** 커넥션 풀 초기 크기 */
+    private int initialSize = 2;
+
+    /** 커넥션 풀 최대 크기 */
+    private int maxSize = 10;
+
+    /** 커넥션 획득 대기 시간(ms), 초과 시 503 */
+    private long maxAcquireTimeMs = 2000;
+}
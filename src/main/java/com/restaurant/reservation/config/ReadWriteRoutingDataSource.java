@@ -0,0 +1,85 @@
+package com.restaurant.reservation.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ * 
+ * {@code @Transactional(readOnly = true)} 트랜잭션은 Standby DB로,
+ * 그 외의 작업은 Primary DB로 보냅니다.
+ * Standby가 다운되었거나 복제 지연이 임계값을 넘으면 Primary로 대체합니다.
+ * 
+ * 트랜잭션 속성이 확정된 후 커넥션을 획득해야 하므로 반드시
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final DataSource primaryDataSource;
+    private final ReplicaHealthMonitor replicaHealthMonitor;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter fallbackCounter;
+
+    public ReadWriteRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+                                      ReplicaHealthMonitor replicaHealthMonitor, MeterRegistry meterRegistry) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaHealthMonitor = replicaHealthMonitor;
+        this.primaryCounter = routingCounter(meterRegistry, PRIMARY);
+        this.replicaCounter = routingCounter(meterRegistry, REPLICA);
+        this.fallbackCounter = Counter.builder("datasource.routing.fallback")
+                .description("Standby 연결 실패로 Primary로 대체된 횟수")
+                .register(meterRegistry);
+
+        setTargetDataSources(Map.of(PRIMARY, primaryDataSource, REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String pool) {
+        return Counter.builder("datasource.routing.connections")
+                .description("라우팅된 커넥션 획득 횟수")
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaHealthMonitor.isAvailable()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object lookupKey = determineCurrentLookupKey();
+        if (REPLICA.equals(lookupKey)) {
+            try {
+                Connection connection = determineTargetDataSource().getConnection();
+                replicaCounter.increment();
+                return connection;
+            } catch (SQLException e) {
+                replicaHealthMonitor.markUnavailable(e);
+                fallbackCounter.increment();
+            }
+        }
+        primaryCounter.increment();
+        return primaryDataSource.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        primaryCounter.increment();
+        return primaryDataSource.getConnection(username, password);
+    }
+}
@@ -0,0 +1,34 @@
+package com.restaurant.reservation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 전용(Standby) DB 라우팅 설정 클래스
+ * 
+ * application.yml의 datasource.replica 설정을 바인딩합니다.
+ * 커넥션 풀 설정은 datasource.replica.hikari 하위에 별도로 바인딩됩니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+@Getter
+@Setter
+public class ReplicaDataSourceProperties {
+
+    /** 읽기 전용 트랜잭션을 Standby DB로 라우팅할지 여부 */
+    private boolean enabled = false;
+
+    /** 허용 가능한 최대 복제 지연(초), 초과 시 Primary로 라우팅 */
+    private long maxLagSeconds = 30;
+
+    /** Standby 상태 확인 주기(ms) */
+    private long checkIntervalMs = 5000;
+
+    /** 복제 지연(초)을 반환하는 쿼리, 비어 있으면 지연 확인 생략 */
+    private String lagQuery;
+
+    /** 커넥션 유효성 확인 타임아웃(초) */
+    private int validationTimeoutSeconds = 2;
+}
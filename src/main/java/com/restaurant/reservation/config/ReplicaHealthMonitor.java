@@ -0,0 +1,89 @@
+package com.restaurant.reservation.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Standby DB 상태 모니터
+ * 
+ * 주기적으로 Standby DB의 연결 가능 여부와 복제 지연을 확인하여
+ * 읽기 전용 트랜잭션을 Standby로 보내도 되는지 판단합니다.
+ */
+public class ReplicaHealthMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+    private final DataSource replicaDataSource;
+    private final ReplicaDataSourceProperties properties;
+
+    private volatile boolean available = false;
+    private volatile double lagSeconds = -1;
+
+    public ReplicaHealthMonitor(DataSource replicaDataSource, ReplicaDataSourceProperties properties, MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.properties = properties;
+
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.isAvailable() ? 1 : 0)
+                .description("Standby DB 라우팅 가능 여부 (1=가능)")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Standby DB 복제 지연(초), 확인 불가 시 -1")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Standby 연결 실패 시 다음 상태 확인 전까지 Primary로 라우팅
+     */
+    public void markUnavailable(Throwable cause) {
+        if (available) {
+            logger.warn("Standby DB 사용 불가 전환: {}", cause.getMessage());
+        }
+        available = false;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${datasource.replica.check-interval-ms:5000}")
+    public void check() {
+        boolean wasAvailable = available;
+        try (Connection connection = replicaDataSource.getConnection()) {
+            if (!connection.isValid(properties.getValidationTimeoutSeconds())) {
+                lagSeconds = -1;
+                available = false;
+            } else if (properties.getLagQuery() == null || properties.getLagQuery().isBlank()) {
+                lagSeconds = 0;
+                available = true;
+            } else {
+                lagSeconds = queryLagSeconds(connection);
+                available = lagSeconds >= 0 && lagSeconds <= properties.getMaxLagSeconds();
+            }
+        } catch (SQLException e) {
+            lagSeconds = -1;
+            available = false;
+            logger.debug("Standby DB 상태 확인 실패", e);
+        }
+
+        if (wasAvailable != available) {
+            logger.info("Standby DB 라우팅 상태 변경: available={}, lagSeconds={}", available, lagSeconds);
+        }
+    }
+
+    private double queryLagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+            return resultSet.next() ? resultSet.getDouble(1) : -1;
+        }
+    }
+}
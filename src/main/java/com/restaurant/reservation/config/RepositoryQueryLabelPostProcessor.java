@@ -0,0 +1,31 @@
+package com.restaurant.reservation.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 Spring Data Repository 호출에 쿼리 라벨("Repository.method")을 부여
+ * 
+ * JDBC 계층({@link InstrumentedDataSource})에서 이 라벨로 쿼리별 지표를 기록하고 fetch size를 적용합니다.
+ */
+@Component
+public class RepositoryQueryLabelPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+            repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory ->
+                    repositoryFactory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> {
+                        String repositoryName = repositoryInformation.getRepositoryInterface().getSimpleName();
+                        proxyFactory.addAdvice(0, (MethodInterceptor) invocation -> {
+                            try (QueryLabel.Scope ignored = QueryLabel.open(repositoryName + "." + invocation.getMethod().getName())) {
+                                return invocation.proceed();
+                            }
+                        });
+                    }));
+        }
+        return bean;
+    }
+}
@@ -1,6 +1,7 @@
 package com.restaurant.reservation.config;
 
 import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -29,8 +30,12 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * @param managementPort Actuator 포트 (prod는 내부 관리 포트, 미설정 시 서비스 포트와 동일)
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${management.server.port:${server.port:8080}}") int managementPort) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
@@ -43,18 +48,24 @@ public class SecurityConfig {
                         // =============================================================================
                         .requestMatchers(
                                 // 정적 리소스 및 기본 페이지
-                                "/", "/login", "/signup", "/register", "/h2-console/**", "/actuator/**", "/public/**",
+                                "/", "/login", "/signup", "/register", "/h2-console/**", "/actuator/health/**", "/actuator/info", "/public/**",
                                 "/css/**", "/js/**", "/images/**", "/favicon.ico", "/.well-known/**",
                                 // HTML 페이지
                                 "/mypage", "/restaurants", "/reservations", "/reviews",
                                 // 공개 API
                                 "/api/auth/**", "/api/users/login", "/api/users/login/url", "/api/users/login/callback",
                                 "/api/users/count", "/api/users/signup", "/api/users/check/**",
-                                "/api/users/dashboard/counts", "/health", "/health/**", "/health/detailed", "/health/log-test", "/api/reviews/{id}", "/api/users/{id}/name",
+                                "/api/users/dashboard/counts", "/health", "/health/**", "/health/detailed", "/health/log-test", "/api/reviews/{id}", "/api/users/{id}/name", "/api/users/names",
+                                "/api/rx/users/{id}/name", "/api/rx/users/names", "/api/rx/users/count",
                                 "/login/status", "/login/logout", "/users/count", "/users",
                                 // MSA 연동 API
                                 "/msa/**", "/api/msa/**", "/api/health/**", "/api/test/**").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // 지표(metrics/prometheus)는 관리 포트로 들어온 요청만 허용 (공개 포트에서는 인증 필요)
+                        .requestMatchers(request -> request.getLocalPort() == managementPort
+                                && request.getRequestURI().startsWith("/actuator/")).permitAll()
+                        // 관리자 API (Cognito admin 그룹)
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .headers(headers -> headers
@@ -70,7 +81,8 @@ public class SecurityConfig {
         CorsConfiguration config = new CorsConfiguration();
         config.setAllowedOrigins(List.of("https://talkingpotato.shop")); // 프론트 주소
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        config.setAllowedHeaders(List.of("Authorization", "Cache-Control", "Content-Type"));
+        config.setAllowedHeaders(List.of("Authorization", "Cache-Control", "Content-Type", "If-None-Match"));
+        config.setExposedHeaders(List.of("ETag")); // 조건부 GET(/api/users/me, /api/users/{id}/name)
         config.setAllowCredentials(true); // 쿠키 허용 시 true
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
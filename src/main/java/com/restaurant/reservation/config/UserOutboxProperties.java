@@ -0,0 +1,79 @@
+package com.restaurant.reservation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 변경 이벤트 아웃박스 설정 클래스
+ * 
+ * application.yml의 user-outbox 설정을 바인딩합니다.
+ * 전달 대상(sink)은 webhook/file/memory 중 활성화된 것 모두이며, sink마다 전달 위치(offset)를 따로 관리합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "user-outbox")
+@Getter
+@Setter
+public class UserOutboxProperties {
+
+    /** 아웃박스 기록 및 릴레이 사용 여부 */
+    private boolean enabled = false;
+
+    /** 릴레이 실행 주기(ms) */
+    private long relayIntervalMs = 1000;
+
+    /** 한 번에 전달할 최대 이벤트 수 */
+    private int batchSize = 200;
+
+    /**
+     * 이벤트 ID 할당 후 커밋까지 걸릴 수 있는 최대 시간(초)
+     * 전달 위치(low-water mark)는 이 시간이 지난 이벤트 범위까지만 전진합니다.
+     * (이 시간이 지나도 보이지 않는 ID는 롤백된 것으로 봄)
+     */
+    private long settleSeconds = 60;
+
+    /** 인스턴스별 변경 피드(UserChangeFeed) 조회 주기(ms) */
+    private long feedIntervalMs = 1000;
+
+    /** 변경 피드가 이전 조회 시각보다 앞서 겹쳐 읽는 시간(초), 커밋 지연과 인스턴스 간 시각 차이를 흡수 */
+    private long feedLookbackSeconds = 5;
+
+    /** sink별 릴레이 리스 유지 시간(초), 담당 인스턴스가 종료되면 만료 후 다른 인스턴스가 이어서 전달 */
+    private long leaseSeconds = 30;
+
+    /** 모든 sink에 전달된 이벤트의 보관 기간(시간), 이후 삭제 */
+    private long retentionHours = 72;
+
+    private Webhook webhook = new Webhook();
+    private File file = new File();
+    private Memory memory = new Memory();
+
+    @Getter
+    @Setter
+    public static class Webhook {
+        /** 이벤트 배치를 POST할 URL 목록 (비어 있으면 비활성) */
+        private List<String> urls = new ArrayList<>();
+        /** 요청 타임아웃(ms) */
+        private long timeoutMs = 3000;
+    }
+
+    @Getter
+    @Setter
+    public static class File {
+        /** NDJSON으로 이어 쓸 파일 경로 (비어 있으면 비활성) */
+        private String path;
+    }
+
+    @Getter
+    @Setter
+    public static class Memory {
+        /** 인메모리 sink 사용 여부 (로컬/테스트용) */
+        private boolean enabled = false;
+        /** 보관할 최대 이벤트 수 */
+        private int capacity = 10000;
+    }
+}
@@ -0,0 +1,55 @@
+package com.restaurant.reservation.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 가상 스레드 실행 모드 설정 (spring.threads.virtual.enabled=true, JDK 21)
+ * 
+ * Spring Boot가 Tomcat 요청 처리, @Scheduled/@Async 실행기를 가상 스레드로 전환하며,
+ * 여기서는 각 Hikari 풀(primary/replica) 앞에 {@link ConnectionLimitingDataSource}를 둡니다.
+ * permit 수와 대기 시간은 각 풀의 maximum-pool-size, connection-timeout과 같습니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        // 계측 DataSource(InstrumentedDataSource)가 감싸기 전에 Hikari 풀을 먼저 감싸도록 우선 적용
+        class ConnectionLimitingPostProcessor implements BeanPostProcessor, Ordered {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                int permits = hikari.getMaximumPoolSize();
+                ConnectionLimitingDataSource limited =
+                        new ConnectionLimitingDataSource(hikari, permits, hikari.getConnectionTimeout());
+                Gauge.builder("jdbc.connections.limiter.waiting", limited, ConnectionLimitingDataSource::getWaitingThreads)
+                        .description("커넥션 사용 제한 대기 스레드 수 (가상 스레드 모드)")
+                        .tag("pool", String.valueOf(hikari.getPoolName()))
+                        .register(meterRegistry.getObject());
+                logger.info("가상 스레드 모드 커넥션 사용 제한: pool={}, permits={}", hikari.getPoolName(), permits);
+                return limited;
+            }
+        }
+        return new ConnectionLimitingPostProcessor();
+    }
+}
@@ -0,0 +1,34 @@
+package com.restaurant.reservation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 워밍업 설정 클래스
+ * 
+ * application.yml의 warm-up 설정을 바인딩합니다.
+ * 워밍업이 끝나거나 deadline이 지날 때까지 /health/elb는 DOWN(503)을 반환합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "warm-up")
+@Getter
+@Setter
+public class WarmUpProperties {
+
+    /** 워밍업 사용 여부 */
+    private boolean enabled = false;
+
+    /** 최대 워밍업 시간(초), 초과 시 중단하고 트래픽 수신 시작 */
+    private long deadlineSeconds = 30;
+
+    /** 요청 경로별 반복 횟수 (JIT 컴파일 임계치 이상) */
+    private int iterations = 5000;
+
+    /** 미리 생성할 Primary 커넥션 수 (커넥션 풀 최대 크기 이하) */
+    private int connections = 10;
+
+    /** 캐시 적재 및 인증 경로 워밍업에 사용할 기존 사용자 수 */
+    private int sampleUsers = 100;
+}
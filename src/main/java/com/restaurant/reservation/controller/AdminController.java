@@ -0,0 +1,140 @@
+package com.restaurant.reservation.controller;
+
+import com.restaurant.reservation.dto.BulkImportResultDto;
+import com.restaurant.reservation.dto.PhoneNormalizationStatusDto;
+import com.restaurant.reservation.dto.UserPageDto;
+import com.restaurant.reservation.dto.view.UserSearchHitView;
+import com.restaurant.reservation.service.PhoneNormalizationJob;
+import com.restaurant.reservation.service.UserBulkImportService;
+import com.restaurant.reservation.service.UserSearchIndex;
+import com.restaurant.reservation.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 관리자 전용 컨트롤러 (ROLE_ADMIN, Cognito admin 그룹)
+ * 
+ * 레거시 시스템 마이그레이션 등 운영 작업용 API를 제공합니다.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
+
+    private final UserBulkImportService bulkImportService;
+    private final PhoneNormalizationJob phoneNormalizationJob;
+    private final UserService userService;
+    // user-search.enabled=true 인 인스턴스에만 존재
+    private final ObjectProvider<UserSearchIndex> userSearchIndex;
+
+    public AdminController(UserBulkImportService bulkImportService, PhoneNormalizationJob phoneNormalizationJob,
+                           UserService userService, ObjectProvider<UserSearchIndex> userSearchIndex) {
+        this.bulkImportService = bulkImportService;
+        this.phoneNormalizationJob = phoneNormalizationJob;
+        this.userService = userService;
+        this.userSearchIndex = userSearchIndex;
+    }
+
+    /**
+     * 사용자 목록 조회 (USER_ID 순, keyset 페이지네이션)
+     * 응답의 nextCursor를 다음 요청의 after로 전달, 마지막 페이지면 nextCursor = null
+     */
+    @GetMapping("/users")
+    public ResponseEntity<UserPageDto> listUsers(@RequestParam(required = false) String after,
+                                                 @RequestParam(defaultValue = "50") int limit,
+                                                 @RequestParam(required = false) String namePrefix,
+                                                 @RequestParam(required = false) String location) {
+        try {
+            logger.info("사용자 목록 조회 요청: limit={}, namePrefix={}, location={}", limit, namePrefix, location);
+            return ResponseEntity.ok(userService.listUsers(after, limit, namePrefix, location));
+        } catch (IllegalArgumentException e) {
+            logger.warn("잘못된 사용자 목록 커서: after={}", after);
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("사용자 목록 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 사용자 이름/주소 접두어 검색 (인프로세스 검색 인덱스, DB 조회 없음)
+     * 예: q=홍 서울 -> 이름 또는 주소에 "홍"으로 시작하는 단어와 "서울"로 시작하는 단어가 모두 있는 사용자
+     * 검색 인덱스가 비활성화된 인스턴스(user-search.enabled=false)에서는 404, 인덱스 구축 전에는 503
+     */
+    @GetMapping("/users/search")
+    public ResponseEntity<List<UserSearchHitView>> searchUsers(@RequestParam String q,
+                                                               @RequestParam(defaultValue = "20") int limit) {
+        UserSearchIndex searchIndex = userSearchIndex.getIfAvailable();
+        if (searchIndex == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!searchIndex.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(searchIndex.search(q, Math.min(Math.max(limit, 1), 100)));
+    }
+
+    /**
+     * 사용자 일괄 등록
+     * 요청 본문은 NDJSON(application/x-ndjson) 또는 CSV(text/csv, 헤더 필수)
+     * batched=false 이면 단건 save 경로로 등록 (처리량 비교용)
+     */
+    @PostMapping(value = "/users/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<BulkImportResultDto> importUsers(HttpServletRequest request,
+                                                           @RequestParam(defaultValue = "true") boolean batched) {
+        try {
+            UserBulkImportService.Format format = request.getContentType().startsWith("text/csv")
+                    ? UserBulkImportService.Format.CSV
+                    : UserBulkImportService.Format.NDJSON;
+            logger.info("사용자 일괄 등록 요청: format={}, batched={}", format, batched);
+
+            try (Reader reader = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)) {
+                BulkImportResultDto result = bulkImportService.importUsers(reader, format, batched);
+                return ResponseEntity.ok(result);
+            }
+        } catch (Exception e) {
+            logger.error("사용자 일괄 등록 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 저장된 전화번호 재정규화 작업 시작 (PHONE_KEY 백필 포함)
+     * 백그라운드에서 실행되며, 중단된 경우 체크포인트부터 이어서 처리 (restart=true면 처음부터)
+     * 이미 실행 중이면 409
+     */
+    @PostMapping("/maintenance/phone-normalization")
+    public ResponseEntity<PhoneNormalizationStatusDto> startPhoneNormalization(
+            @RequestParam(defaultValue = "false") boolean restart) {
+        try {
+            logger.info("전화번호 재정규화 작업 요청: restart={}", restart);
+            if (!phoneNormalizationJob.start(restart)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(phoneNormalizationJob.status());
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(phoneNormalizationJob.status());
+        } catch (Exception e) {
+            logger.error("전화번호 재정규화 작업 시작 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 전화번호 재정규화 작업 진행 상태 (이 인스턴스에서 실행한 적이 없으면 404)
+     */
+    @GetMapping("/maintenance/phone-normalization")
+    public ResponseEntity<PhoneNormalizationStatusDto> getPhoneNormalizationStatus() {
+        PhoneNormalizationStatusDto status = phoneNormalizationJob.status();
+        return status != null ? ResponseEntity.ok(status) : ResponseEntity.notFound().build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.restaurant.reservation.controller;
 
+import com.restaurant.reservation.dto.AvailabilityResponseDto;
 import com.restaurant.reservation.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,4 +48,24 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    /**
+     * 아이디/전화번호 중복 여부 통합 확인
+     * 회원가입 화면에서 두 번 호출하던 check-userid, check-phone을 한 번의 요청/쿼리로 처리
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponseDto> checkAvailability(@RequestParam(required = false) String userId,
+                                                                     @RequestParam(required = false) String phone) {
+        try {
+            logger.info("가용성 확인 요청: userId={}, phone={}", userId, phone);
+
+            AvailabilityResponseDto availability = userService.checkAvailability(userId, phone);
+            logger.info("가용성 확인 완료: userId={}, userIdDuplicate={}, phoneNumberDuplicate={}",
+                    userId, availability.getUserIdDuplicate(), availability.getPhoneNumberDuplicate());
+            return ResponseEntity.ok(availability);
+        } catch (Exception e) {
+            logger.error("가용성 확인 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 }
@@ -0,0 +1,66 @@
+package com.restaurant.reservation.controller;
+
+import com.restaurant.reservation.dto.response.UserCountResponse;
+import com.restaurant.reservation.dto.response.UserNameResponse;
+import com.restaurant.reservation.service.ReactiveUserReadService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 리액티브 읽기 전용 사용자 API (reactive-read.enabled=true)
+ * 
+ * /api/users의 조회 API와 같은 응답을 Mono로 반환합니다. Spring MVC가 비동기 요청으로 처리하므로
+ * DB 조회 중에는 Tomcat 요청 스레드를 반환하고, 조회가 끝나면 결과만 다시 디스패치합니다.
+ */
+@RestController
+@RequestMapping("/api/rx/users")
+@ConditionalOnProperty(prefix = "reactive-read", name = "enabled", havingValue = "true")
+public class ReactiveUserController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveUserController.class);
+
+    // 사용자 이름 일괄 조회 최대 건수 (/api/users/names와 동일)
+    private static final int MAX_NAME_LOOKUP = 100;
+
+    private final ReactiveUserReadService reactiveUserReadService;
+
+    public ReactiveUserController(ReactiveUserReadService reactiveUserReadService) {
+        this.reactiveUserReadService = reactiveUserReadService;
+    }
+
+    @GetMapping("/{id}/name")
+    public Mono<String> getUserName(@PathVariable String id) {
+        return reactiveUserReadService.getUserName(id)
+                .defaultIfEmpty("User not found");
+    }
+
+    @PostMapping("/names")
+    public Mono<ResponseEntity<List<UserNameResponse>>> getUserNames(@RequestBody List<String> userIds) {
+        if (userIds == null || userIds.isEmpty() || userIds.size() > MAX_NAME_LOOKUP) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return reactiveUserReadService.getUserNames(userIds)
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    logger.error("사용자 이름 일괄 조회 중 오류 발생", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                });
+    }
+
+    @GetMapping("/count")
+    public Mono<ResponseEntity<UserCountResponse>> getUserCount() {
+        return reactiveUserReadService.getUserCount()
+                .map(count -> ResponseEntity.ok(new UserCountResponse(count)))
+                .onErrorResume(e -> {
+                    logger.error("사용자 수 조회 중 오류 발생", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                });
+    }
+}
@@ -1,17 +1,33 @@
 package com.restaurant.reservation.controller;
 
 import com.restaurant.reservation.config.AwsCognitoConfig;
+import com.restaurant.reservation.config.JacksonConfig;
 import com.restaurant.reservation.dto.UserInfoDto;
+import com.restaurant.reservation.dto.UserUpdateRequestDto;
+import com.restaurant.reservation.dto.response.LoginCallbackResponse;
+import com.restaurant.reservation.dto.response.LoginUrlResponse;
+import com.restaurant.reservation.dto.response.LogoutResponse;
+import com.restaurant.reservation.dto.response.MyPageResponse;
+import com.restaurant.reservation.dto.response.UserCountResponse;
+import com.restaurant.reservation.dto.response.UserNameResponse;
+import com.restaurant.reservation.dto.view.UserProfileView;
 import com.restaurant.reservation.entity.User;
 import com.restaurant.reservation.service.AwsCognitoService;
 import com.restaurant.reservation.service.UserService;
+import com.restaurant.reservation.service.UserVersionCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -36,11 +52,25 @@ public class UserController {
     // 로깅을 위한 Logger 인스턴스
     private static final Logger logger = LoggerFactory.getLogger(UserController.class);
     
+    // ETag 응답: 브라우저(사용자별) 캐시에만 저장하고 매번 If-None-Match로 재검증
+    // (지정하지 않으면 Spring Security 기본값 no-store로 인해 브라우저가 ETag를 보관하지 않음)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    
+    // 사용자 이름 일괄 조회 최대 건수
+    private static final int MAX_NAME_LOOKUP = 100;
+    
     // 사용자 서비스 의존성 주입
     private final UserService userService;
     private final AwsCognitoService cognitoService;
     private final AwsCognitoConfig cognitoConfig;
     private final org.springframework.security.core.userdetails.UserDetailsService userDetailsService;
+    private final UserVersionCache userVersionCache;
+    
+    // 조건부 GET 결과 (304 비율 = not_modified / 전체)
+    private final Counter meNotModified;
+    private final Counter meFull;
+    private final Counter nameNotModified;
+    private final Counter nameFull;
     
     /**
      * 생성자 - 의존성 주입
@@ -48,24 +78,96 @@ public class UserController {
      * @param cognitoService AWS Cognito 서비스
      * @param cognitoConfig AWS Cognito 설정
      * @param userDetailsService 사용자 상세 정보 서비스
+     * @param userVersionCache ETag용 사용자 버전 캐시
+     * @param meterRegistry 조건부 GET 지표 등록
      */
     public UserController(UserService userService, AwsCognitoService cognitoService, AwsCognitoConfig cognitoConfig,
-                         org.springframework.security.core.userdetails.UserDetailsService userDetailsService) {
+                         org.springframework.security.core.userdetails.UserDetailsService userDetailsService,
+                         UserVersionCache userVersionCache, MeterRegistry meterRegistry) {
         this.userService = userService;
         this.cognitoService = cognitoService;
         this.cognitoConfig = cognitoConfig;
         this.userDetailsService = userDetailsService;
+        this.userVersionCache = userVersionCache;
+        this.meNotModified = conditionalGetCounter(meterRegistry, "me", "not_modified");
+        this.meFull = conditionalGetCounter(meterRegistry, "me", "full");
+        this.nameNotModified = conditionalGetCounter(meterRegistry, "name", "not_modified");
+        this.nameFull = conditionalGetCounter(meterRegistry, "name", "full");
+    }
+
+    private static Counter conditionalGetCounter(MeterRegistry meterRegistry, String endpoint, String result) {
+        return Counter.builder("user.conditional.get")
+                .description("ETag 조건부 GET 응답 (result=not_modified: 304, full: 본문 전송)")
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
+    /**
+     * 사용자 이름 조회
+     * 사용자 버전 기준 ETag를 내려주며, If-None-Match가 일치하면 304 Not Modified
+     */
     @GetMapping("/{id}/name")
-    public String getUserName(@PathVariable String id) {
+    public ResponseEntity<String> getUserName(@PathVariable String id, WebRequest webRequest) {
         logger.info("username 컨트롤러 진입");
+        // checkNotModified가 일치하면 304 상태와 ETag 헤더를 설정
+        String etag = userVersionCache.etag(id);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            nameNotModified.increment();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
         String userName = userService.getUserName(id);
         if (userName == null) {
             logger.warn("유저를 찾을 수 없습니다: userId={}", id);
-            return "User not found";
+            return ResponseEntity.ok("User not found");
+        }
+        nameFull.increment();
+        return etag != null
+                ? ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(userName)
+                : ResponseEntity.ok(userName);
+    }
+
+    /**
+     * 사용자 이름 조회 - 서비스 간 호출용 바이너리 응답 (Accept: application/cbor 또는 application/x-jackson-smile)
+     * 텍스트 응답과 같은 ETag를 사용하며, 사용자가 없으면 404
+     */
+    @GetMapping(value = "/{id}/name", produces = {MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<UserNameResponse> getUserNameBinary(@PathVariable String id, WebRequest webRequest) {
+        String etag = userVersionCache.etag(id);
+        if (etag == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(etag)) {
+            nameNotModified.increment();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        String userName = userService.getUserName(id);
+        if (userName == null) {
+            return ResponseEntity.notFound().build();
+        }
+        nameFull.increment();
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(new UserNameResponse(id, userName));
+    }
+
+    /**
+     * 사용자 이름 일괄 조회 (서비스 간 호출용)
+     * 요청/응답 모두 JSON, CBOR, Smile 지원 (Content-Type/Accept 헤더 기준), 최대 100건
+     * 결과는 요청 순서이며 없는 사용자는 제외됩니다.
+     */
+    @PostMapping(value = "/names",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<UserNameResponse>> getUserNames(@RequestBody List<String> userIds) {
+        if (userIds == null || userIds.isEmpty() || userIds.size() > MAX_NAME_LOOKUP) {
+            logger.warn("사용자 이름 일괄 조회 요청 건수 오류: size={}", userIds == null ? 0 : userIds.size());
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(userService.getUserNames(userIds));
+        } catch (Exception e) {
+            logger.error("사용자 이름 일괄 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
-        return userName;
     }
     
     /**
@@ -74,7 +176,7 @@ public class UserController {
      * 기존 대시보드 기능을 마이페이지에 통합
      */
     @GetMapping("/me")
-    public ResponseEntity<Map<String, Object>> getMyPage() {
+    public ResponseEntity<MyPageResponse> getMyPage(WebRequest webRequest) {
         try {
             String userId = getCurrentUserId();
             if (userId == null) {
@@ -83,10 +185,24 @@ public class UserController {
             
             logger.info("통합 마이페이지 조회 요청: userId={}", userId);
             
-            Map<String, Object> myPage = userService.getMyPage(userId);
+            // Primary의 현재 버전(VERSION 컬럼만)과 If-None-Match가 일치하면 프로필 조회 없이 304
+            // (인스턴스별 캐시는 다른 인스턴스의 수정을 바로 반영하지 못하므로 /me에는 사용하지 않음)
+            String etag = userVersionCache.currentEtag(userId);
+            if (etag != null && webRequest.checkNotModified(etag)) {
+                meNotModified.increment();
+                logger.info("통합 마이페이지 변경 없음(304): userId={}", userId);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+            }
+            
+            MyPageResponse myPage = userService.getMyPage(userId);
+            meFull.increment();
             
             logger.info("통합 마이페이지 조회 완료: userId={}", userId);
-            return ResponseEntity.ok(myPage);
+            // 응답 본문의 버전 기준 ETag (사용자 정보가 없어 기본값을 반환하는 경우는 제외)
+            String bodyEtag = UserVersionCache.etag(userId, myPage.userInfo().version());
+            return bodyEtag != null
+                    ? ResponseEntity.ok().eTag(bodyEtag).cacheControl(REVALIDATE).body(myPage)
+                    : ResponseEntity.ok(myPage);
             
         } catch (Exception e) {
             logger.error("통합 마이페이지 조회 중 오류 발생", e);
@@ -156,17 +272,13 @@ public class UserController {
      * Cognito 로그인 URL 생성
      */
     @GetMapping("/login/url")
-    public ResponseEntity<Map<String, Object>> generateLoginUrl() {
+    public ResponseEntity<LoginUrlResponse> generateLoginUrl() {
         try {
             String state = java.util.UUID.randomUUID().toString();
             String loginUrl = cognitoService.generateLoginUrl(state);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("url", loginUrl);  // 프론트엔드에서 기대하는 필드명
-            response.put("state", state);
-            
             logger.info("Cognito 로그인 URL 생성 완료");
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new LoginUrlResponse(loginUrl, state));
             
         } catch (Exception e) {
             logger.error("로그인 URL 생성 중 오류 발생", e);
@@ -180,7 +292,7 @@ public class UserController {
      * Cognito 콜백 처리 (인증 코드로 토큰 교환)
      */
     @PostMapping("/login/callback")
-    public ResponseEntity<Map<String, Object>> handleCallback(@RequestBody Map<String, String> callbackRequest) {
+    public ResponseEntity<LoginCallbackResponse> handleCallback(@RequestBody Map<String, String> callbackRequest) {
         try {
             logger.error("=== Cognito 콜백 처리 시작 (ERROR 레벨) ===");
             logger.error("요청 데이터: {}", callbackRequest);
@@ -279,19 +391,13 @@ public class UserController {
                             logger.error("Cognito 사용자 삭제 중 예외 발생: userId={}", userId, deleteException);
                         }
                         
-                        Map<String, Object> errorResponse = new HashMap<>();
-                        errorResponse.put("success", false);
-                        errorResponse.put("error", "DUPLICATE_PHONE");
-                        errorResponse.put("message", "이미 등록된 전화번호입니다. 다른 전화번호를 사용해주세요.");
-                        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+                        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(LoginCallbackResponse.failure(
+                                "DUPLICATE_PHONE", "이미 등록된 전화번호입니다. 다른 전화번호를 사용해주세요."));
                     }
                     
                     // 기타 에러는 500 Internal Server Error
-                    Map<String, Object> errorResponse = new HashMap<>();
-                    errorResponse.put("success", false);
-                    errorResponse.put("error", "SIGNUP_FAILED");
-                    errorResponse.put("message", "회원가입 중 오류가 발생했습니다.");
-                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(LoginCallbackResponse.failure(
+                            "SIGNUP_FAILED", "회원가입 중 오류가 발생했습니다."));
                 }
             } else {
                 logger.info("기존 사용자 확인: userId={}", userId);
@@ -317,15 +423,7 @@ public class UserController {
             }
             
             logger.info("응답 데이터 생성 시작");
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("accessToken", tokenResponse.get("access_token"));
-            response.put("idToken", idToken);
-            response.put("refreshToken", tokenResponse.get("refresh_token"));
-            response.put("tokenType", "Bearer");
-            response.put("expiresIn", tokenResponse.get("expires_in"));
-            response.put("userInfo", userInfo);
-            response.put("message", "Cognito 로그인 성공");
+            LoginCallbackResponse response = LoginCallbackResponse.success(tokenResponse, idToken, userInfo);
             
             logger.info("Cognito 로그인 완료: userId={}", userInfo.get("sub"));
             logger.info("=== Cognito 콜백 처리 성공 완료 ===");
@@ -337,12 +435,8 @@ public class UserController {
             logger.error("예외 메시지: {}", e.getMessage());
             logger.error("예외 상세 정보:", e);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", e.getMessage());
-            
             logger.error("=== Cognito 콜백 처리 실패 완료 ===");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(LoginCallbackResponse.failure(null, e.getMessage()));
         }
     }
 
@@ -350,7 +444,7 @@ public class UserController {
      * 로그아웃
      */
     @PostMapping("/logout")
-    public ResponseEntity<Map<String, Object>> logout() {
+    public ResponseEntity<LogoutResponse> logout() {
         try {
             String userId = getCurrentUserId();
             if (userId == null) {
@@ -360,13 +454,8 @@ public class UserController {
 
             logger.info("로그아웃 요청: userId={}", userId);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "로그아웃 성공");
-            response.put("userId", userId);
-
             logger.info("로그아웃 완료: userId={}", userId);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new LogoutResponse(true, "로그아웃 성공", userId));
 
         } catch (Exception e) {
             logger.error("로그아웃 중 오류 발생", e);
@@ -378,14 +467,11 @@ public class UserController {
      * 전체 사용자 수 조회
      */
     @GetMapping("/count")
-    public ResponseEntity<Map<String, Object>> getUserCount() {
+    public ResponseEntity<UserCountResponse> getUserCount() {
         try {
             long count = userService.getUserCount();
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("count", count);
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new UserCountResponse(count));
             
         } catch (Exception e) {
             logger.error("사용자 수 조회 중 오류 발생", e);
@@ -395,9 +481,10 @@ public class UserController {
 
     /**
      * 사용자 정보 수정
+     * 변경된 항목만 수정하며, version이 현재 버전과 다르면 409 Conflict, 유효하지 않은 전화번호면 400
      */
     @PutMapping("/me")
-    public ResponseEntity<UserInfoDto> updateMyInfo(@RequestBody Map<String, String> updateRequest) {
+    public ResponseEntity<UserInfoDto> updateMyInfo(@RequestBody UserUpdateRequestDto updateRequest) {
         try {
             String userId = getCurrentUserId();
             if (userId == null) {
@@ -406,16 +493,21 @@ public class UserController {
 
             logger.info("사용자 정보 수정 요청: userId={}", userId);
 
-            // 사용자 정보 수정 로직 구현
-            User updatedUser = userService.updateUserInfo(userId, updateRequest);
+            UserProfileView updatedUser = userService.updateUserInfo(userId, updateRequest);
             UserInfoDto userInfo = new UserInfoDto(
-                updatedUser.getUserId(), updatedUser.getUserName(), updatedUser.getPhoneNumber(),
-                updatedUser.getUserLocation()
+                updatedUser.userId(), updatedUser.userName(), updatedUser.phoneNumber(),
+                updatedUser.userLocation(), updatedUser.version()
             );
 
-            logger.info("사용자 정보 수정 완료: userId={}", userId);
+            logger.info("사용자 정보 수정 완료: userId={}, version={}", userId, updatedUser.version());
             return ResponseEntity.ok(userInfo);
 
+        } catch (OptimisticLockingFailureException e) {
+            logger.warn("사용자 정보 수정 버전 충돌: requestVersion={}", updateRequest.getVersion());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            logger.warn("사용자 정보 수정 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("사용자 정보 수정 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
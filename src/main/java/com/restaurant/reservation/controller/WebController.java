@@ -1,16 +1,21 @@
 package com.restaurant.reservation.controller;
 
+import com.restaurant.reservation.dto.response.DetailedHealthResponse;
+import com.restaurant.reservation.dto.response.ElbHealthResponse;
+import com.restaurant.reservation.dto.response.HealthResponse;
+import com.restaurant.reservation.dto.response.ServiceInfoResponse;
+import com.restaurant.reservation.dto.view.HealthSnapshot;
+import com.restaurant.reservation.service.HealthProber;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import javax.sql.DataSource;
-import java.sql.Connection;
-import java.sql.SQLException;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Instant;
 
 /**
  * 웹 페이지 라우팅을 위한 컨트롤러
@@ -21,81 +26,65 @@ import java.util.Map;
 public class WebController {
 
     @Autowired
-    private DataSource dataSource;
+    private HealthProber healthProber;
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
 
     @GetMapping("/")
-    public ResponseEntity<Map<String, Object>> index() {
-        Map<String, Object> response = new HashMap<>();
-        response.put("message", "Team-FOG User Service API");
-        response.put("status", "running");
-        response.put("version", "2.0");
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ServiceInfoResponse> index() {
+        return ResponseEntity.ok(ServiceInfoResponse.CURRENT);
     }
 
+    /**
+     * Health Check 엔드포인트 (Docker HEALTHCHECK)
+     * DB/JWKS 상태는 백그라운드 프로브 스냅샷을 사용하므로 요청 시 DB 커넥션을 사용하지 않습니다.
+     */
     @GetMapping("/health")
-    public ResponseEntity<Map<String, Object>> health() {
-        log.info("=== User Service Health Check Started ===");
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "UP");
-        response.put("service", "user-service");
-        response.put("timestamp", java.time.LocalDateTime.now().toString());
-        response.put("port", "8080");
-        response.put("version", "2.0");
-
-        // 데이터베이스 연결 확인
-        try (Connection connection = dataSource.getConnection()) {
-            boolean isValid = connection.isValid(5);
-            response.put("database", isValid ? "UP" : "DOWN");
-            log.info("=== Database connection: {} ===", isValid ? "UP" : "DOWN");
-        } catch (SQLException e) {
-            response.put("database", "DOWN");
-            response.put("databaseError", e.getMessage());
-            log.error("=== Database connection failed: {} ===", e.getMessage());
-        }
-
-        log.info("=== User Service Health Check Completed ===");
-        return ResponseEntity.ok(response);
+    public ResponseEntity<HealthResponse> health() {
+        HealthSnapshot snapshot = healthProber.getSnapshot();
+        return ResponseEntity.ok(new HealthResponse("UP", "user-service", java.time.LocalDateTime.now().toString(),
+                "8080", "2.0", snapshot.database(), snapshot.databaseError(), snapshot.jwks(), snapshot.jwksError(),
+                snapshot.ageMillis(Instant.now())));
     }
 
     /**
      * 상세한 Health Check 엔드포인트
      */
     @GetMapping("/health/detailed")
-    public ResponseEntity<Map<String, Object>> detailedHealth() {
-        Map<String, Object> response = new HashMap<>();
-        response.put("timestamp", java.time.LocalDateTime.now().toString());
-        response.put("service", "User Service");
-        response.put("version", "1.0.0");
-        response.put("status", "UP");
-
+    public ResponseEntity<DetailedHealthResponse> detailedHealth() {
         // 메모리 상태
         Runtime runtime = Runtime.getRuntime();
         long totalMemory = runtime.totalMemory();
         long freeMemory = runtime.freeMemory();
         long usedMemory = totalMemory - freeMemory;
 
-        Map<String, Object> memoryStatus = new HashMap<>();
-        memoryStatus.put("total", totalMemory);
-        memoryStatus.put("used", usedMemory);
-        memoryStatus.put("free", freeMemory);
-        memoryStatus.put("usagePercent", (double) usedMemory / totalMemory * 100);
+        DetailedHealthResponse.Memory memoryStatus = new DetailedHealthResponse.Memory(
+                totalMemory, usedMemory, freeMemory, (double) usedMemory / totalMemory * 100);
 
-        response.put("memory", memoryStatus);
-
-        return ResponseEntity.ok(response);
+        HealthSnapshot snapshot = healthProber.getSnapshot();
+        return ResponseEntity.ok(new DetailedHealthResponse(java.time.LocalDateTime.now().toString(),
+                "User Service", "1.0.0", "UP", memoryStatus,
+                snapshot.database(), snapshot.databaseError(), snapshot.databaseLatencyMs(),
+                snapshot.jwks(), snapshot.jwksError(), snapshot.pools(),
+                snapshot.probedAt() == null ? null : snapshot.probedAt().toString(),
+                snapshot.ageMillis(Instant.now())));
     }
 
     /**
      * ELB 헬스체크용 간단한 엔드포인트
      * 데이터베이스 연결 없이 빠른 응답
+     * 기동 워밍업(WarmUpRunner)이 끝나기 전과 종료 중에는 트래픽 수신 불가 상태이므로 503(DOWN) 반환
      */
     @GetMapping("/health/elb")
-    public ResponseEntity<Map<String, Object>> elbHealth() {
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "UP");
-        response.put("service", "user-service");
-        response.put("timestamp", java.time.LocalDateTime.now().toString());
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ElbHealthResponse> elbHealth() {
+        Long probeAgeMs = healthProber.getSnapshot().ageMillis(Instant.now());
+        String timestamp = java.time.LocalDateTime.now().toString();
+        if (applicationAvailability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new ElbHealthResponse("DOWN", "user-service", timestamp, probeAgeMs));
+        }
+        return ResponseEntity.ok(new ElbHealthResponse("UP", "user-service", timestamp, probeAgeMs));
     }
 
     /**
@@ -105,4 +94,4 @@ public class WebController {
     public ResponseEntity<String> healthLogTest() {
         return ResponseEntity.ok("Health Check Log Test Completed - " + java.time.LocalDateTime.now());
     }
-} 
\ No newline at end of file
+}
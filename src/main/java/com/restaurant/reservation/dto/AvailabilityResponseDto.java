@@ -0,0 +1,19 @@
+package com.restaurant.reservation.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * 아이디/전화번호 중복 여부 통합 응답 DTO
+ * 요청에 포함되지 않은 항목은 null로 반환됩니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityResponseDto {
+    private Boolean userIdDuplicate;
+    private Boolean phoneNumberDuplicate;
+}
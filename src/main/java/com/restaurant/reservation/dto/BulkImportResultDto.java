@@ -0,0 +1,37 @@
+package com.restaurant.reservation.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 등록 결과 DTO
+ * 
+ * rejects에는 거부된 행의 상세 정보가 최대 설정 개수까지만 담기며,
+ * 전체 거부 건수는 rejectedRows로 확인합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResultDto {
+    private long totalRows;
+    private long importedRows;
+    private long rejectedRows;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<Reject> rejects;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Reject {
+        private long line;
+        private String userId;
+        private String reason;
+    }
+}
@@ -0,0 +1,41 @@
+package com.restaurant.reservation.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 전화번호 재정규화 작업 상태 DTO
+ * 
+ * lastCheckpointKey까지의 모든 chunk가 처리되었으며, 중단 후 다시 실행하면 그 다음 키부터 이어서 처리합니다.
+ * conflicts에는 전화번호 키 유니크 인덱스와 충돌한 행이 최대 설정 개수까지만 담깁니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PhoneNormalizationStatusDto {
+    private boolean running;
+    private String resumedFromKey;
+    private String lastCheckpointKey;
+    private long scannedRows;
+    private long updatedRows;
+    private long invalidRows;
+    private long conflictRows;
+    private long elapsedMillis;
+    private String error;
+    private List<Conflict> conflicts;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Conflict {
+        private String userId;
+        private String phoneNumber;
+        private String phoneKey;
+    }
+}
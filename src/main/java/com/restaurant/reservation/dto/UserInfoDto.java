@@ -1,6 +1,6 @@
 package com.restaurant.reservation.dto;
 
-import com.restaurant.reservation.util.PhoneNumberUtil;
+import com.restaurant.reservation.entity.PhoneNumber;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -13,14 +13,15 @@ import lombok.AllArgsConstructor;
 public class UserInfoDto {
     private String userId;
     private String userName;
-    private String phoneNumber;
+    private PhoneNumber phoneNumber;
     private String userLocation;
+    private Long version;
     
     /**
-     * 전화번호를 한국 형식으로 반환
+     * 전화번호를 한국 형식으로 반환 (PhoneNumber에 캐시된 값)
      * @return 한국 형식 전화번호 (예: 010-1234-5678)
      */
     public String getFormattedPhoneNumber() {
-        return PhoneNumberUtil.toKoreanFormat(this.phoneNumber);
+        return phoneNumber != null ? phoneNumber.korean() : null;
     }
 }
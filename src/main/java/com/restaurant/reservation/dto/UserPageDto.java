@@ -0,0 +1,23 @@
+package com.restaurant.reservation.dto;
+
+import com.restaurant.reservation.dto.view.UserListItemView;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 관리자 사용자 목록 응답 DTO (keyset 페이지네이션)
+ * 
+ * nextCursor를 다음 요청의 after 파라미터로 그대로 전달하며, 마지막 페이지면 null입니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPageDto {
+    private List<UserListItemView> users;
+    private String nextCursor;
+}
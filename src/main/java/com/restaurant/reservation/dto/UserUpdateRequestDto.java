@@ -0,0 +1,23 @@
+package com.restaurant.reservation.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * 사용자 정보 부분 수정 요청 DTO
+ * 
+ * null인 항목은 변경하지 않습니다.
+ * version을 함께 보내면 해당 버전일 때만 수정되며(낙관적 잠금), 생략 시 현재 버전 기준으로 수정합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserUpdateRequestDto {
+    private String userName;
+    private String phoneNumber;
+    private String userLocation;
+    private Long version;
+}
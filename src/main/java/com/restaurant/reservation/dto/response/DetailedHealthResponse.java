@@ -0,0 +1,32 @@
+package com.restaurant.reservation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.restaurant.reservation.dto.view.HealthSnapshot;
+
+import java.util.List;
+
+/**
+ * 상세 헬스체크 응답 (GET /health/detailed)
+ * memory는 요청 시점 값, 나머지 상태는 백그라운드 프로브(probedAt) 결과입니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DetailedHealthResponse(String timestamp,
+                                     String service,
+                                     String version,
+                                     String status,
+                                     Memory memory,
+                                     String database,
+                                     String databaseError,
+                                     long databaseLatencyMs,
+                                     String jwks,
+                                     String jwksError,
+                                     List<HealthSnapshot.Pool> pools,
+                                     String probedAt,
+                                     Long probeAgeMs) {
+
+    /**
+     * JVM 힙 사용량 (바이트)
+     */
+    public record Memory(long total, long used, long free, double usagePercent) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.restaurant.reservation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * ELB 헬스체크 응답 (GET /health/elb)
+ * probeAgeMs는 마지막 백그라운드 프로브 이후 경과 시간 (첫 프로브 전에는 생략)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ElbHealthResponse(String status, String service, String timestamp, Long probeAgeMs) {
+}
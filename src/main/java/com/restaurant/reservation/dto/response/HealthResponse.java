@@ -0,0 +1,21 @@
+package com.restaurant.reservation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 헬스체크 응답 (GET /health)
+ * database/jwks는 백그라운드 프로브 결과이며, probeAgeMs는 해당 프로브 이후 경과 시간입니다.
+ * databaseError/jwksError는 확인 실패 시에만, probeAgeMs는 첫 프로브 이후에만 출력합니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record HealthResponse(String status,
+                             String service,
+                             String timestamp,
+                             String port,
+                             String version,
+                             String database,
+                             String databaseError,
+                             String jwks,
+                             String jwksError,
+                             Long probeAgeMs) {
+}
@@ -0,0 +1,33 @@
+package com.restaurant.reservation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * Cognito 콜백 처리 응답 (POST /api/users/login/callback)
+ * 
+ * 성공 시 토큰과 사용자 정보, 실패 시 success/error/message만 포함합니다 (null 항목은 출력하지 않음).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LoginCallbackResponse(boolean success,
+                                    Object accessToken,
+                                    String idToken,
+                                    Object refreshToken,
+                                    String tokenType,
+                                    Object expiresIn,
+                                    Map<String, Object> userInfo,
+                                    String error,
+                                    String message) {
+
+    public static LoginCallbackResponse success(Map<String, Object> tokenResponse, String idToken,
+                                                Map<String, Object> userInfo) {
+        return new LoginCallbackResponse(true, tokenResponse.get("access_token"), idToken,
+                tokenResponse.get("refresh_token"), "Bearer", tokenResponse.get("expires_in"), userInfo,
+                null, "Cognito 로그인 성공");
+    }
+
+    public static LoginCallbackResponse failure(String error, String message) {
+        return new LoginCallbackResponse(false, null, null, null, null, null, null, error, message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.restaurant.reservation.dto.response;
+
+/**
+ * Cognito 로그인 URL 응답 (url은 프론트엔드에서 기대하는 필드명)
+ */
+public record LoginUrlResponse(String url, String state) {
+}
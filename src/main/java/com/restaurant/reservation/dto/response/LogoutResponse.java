@@ -0,0 +1,7 @@
+package com.restaurant.reservation.dto.response;
+
+/**
+ * 로그아웃 응답
+ */
+public record LogoutResponse(boolean success, String message, String userId) {
+}
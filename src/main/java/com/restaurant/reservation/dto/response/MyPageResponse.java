@@ -0,0 +1,9 @@
+package com.restaurant.reservation.dto.response;
+
+import com.restaurant.reservation.dto.view.UserProfileView;
+
+/**
+ * 통합 마이페이지 응답 (GET /api/users/me)
+ */
+public record MyPageResponse(UserProfileView userInfo) {
+}
@@ -0,0 +1,10 @@
+package com.restaurant.reservation.dto.response;
+
+/**
+ * 서비스 기본 정보 응답 (GET /)
+ */
+public record ServiceInfoResponse(String message, String status, String version) {
+
+    public static final ServiceInfoResponse CURRENT =
+            new ServiceInfoResponse("Team-FOG User Service API", "running", "2.0");
+}
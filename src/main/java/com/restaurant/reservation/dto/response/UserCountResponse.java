@@ -0,0 +1,7 @@
+package com.restaurant.reservation.dto.response;
+
+/**
+ * 전체 사용자 수 응답
+ */
+public record UserCountResponse(long count) {
+}
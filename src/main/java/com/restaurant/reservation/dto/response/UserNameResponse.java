@@ -0,0 +1,7 @@
+package com.restaurant.reservation.dto.response;
+
+/**
+ * 사용자 이름 조회 응답 (서비스 간 호출용, JSON/CBOR/Smile)
+ */
+public record UserNameResponse(String userId, String userName) {
+}
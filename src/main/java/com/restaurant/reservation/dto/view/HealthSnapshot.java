@@ -0,0 +1,41 @@
+package com.restaurant.reservation.dto.view;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 헬스 프로브 결과 스냅샷 (HealthProber가 주기적으로 교체, 불변)
+ * 
+ * @param probedAt        프로브 완료 시각 (첫 프로브 전에는 null)
+ * @param database        UP / DOWN / UNKNOWN
+ * @param databaseError   DB 확인 실패 사유 (UP이면 null)
+ * @param databaseLatencyMs 커넥션 획득 + isValid 소요 시간
+ * @param jwks            UP / DOWN / UNKNOWN (Cognito JWKS 엔드포인트 응답 여부)
+ * @param jwksError       JWKS 확인 실패 사유 (UP이면 null)
+ * @param pools           커넥션 풀별 사용 현황
+ */
+public record HealthSnapshot(Instant probedAt,
+                             String database,
+                             String databaseError,
+                             long databaseLatencyMs,
+                             String jwks,
+                             String jwksError,
+                             List<Pool> pools) {
+
+    public static final HealthSnapshot INITIAL = new HealthSnapshot(null, "UNKNOWN", null, -1, "UNKNOWN", null, List.of());
+
+    /**
+     * 커넥션 풀 상태 (hikaricp.connections.* 지표 기준)
+     * 
+     * @param status OK / SATURATED (대기 스레드가 있거나 사용률이 기준 이상)
+     */
+    public record Pool(String name, int active, int idle, int max, int pending, String status) {
+    }
+
+    /**
+     * 프로브 경과 시간(ms), 첫 프로브 전에는 null
+     */
+    public Long ageMillis(Instant now) {
+        return probedAt == null ? null : now.toEpochMilli() - probedAt.toEpochMilli();
+    }
+}
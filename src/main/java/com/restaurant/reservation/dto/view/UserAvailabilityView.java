@@ -0,0 +1,7 @@
+package com.restaurant.reservation.dto.view;
+
+/**
+ * 아이디/전화번호 중복 확인용 프로젝션
+ */
+public record UserAvailabilityView(String userId, String phoneKey) {
+}
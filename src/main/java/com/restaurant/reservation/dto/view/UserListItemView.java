@@ -0,0 +1,9 @@
+package com.restaurant.reservation.dto.view;
+
+import com.restaurant.reservation.entity.PhoneNumber;
+
+/**
+ * 관리자 사용자 목록 조회용 프로젝션 (JPQL 생성자 표현식)
+ */
+public record UserListItemView(String userId, String userName, PhoneNumber phoneNumber, String userLocation) {
+}
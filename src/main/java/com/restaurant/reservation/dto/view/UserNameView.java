@@ -0,0 +1,7 @@
+package com.restaurant.reservation.dto.view;
+
+/**
+ * 사용자 이름 조회용 프로젝션 (다른 서비스의 이름 조회 API용)
+ */
+public record UserNameView(String userId, String userName) {
+}
@@ -0,0 +1,34 @@
+package com.restaurant.reservation.dto.view;
+
+import com.restaurant.reservation.entity.PhoneNumber;
+
+/**
+ * 사용자 프로필 조회용 프로젝션
+ *
+ * JPQL 생성자 표현식으로 직접 생성되므로 엔티티 하이드레이션, 영속성 컨텍스트 스냅샷,
+ * 인터페이스 프로젝션 프록시를 거치지 않습니다.
+ */
+public record UserProfileView(String userId, String userName, PhoneNumber phoneNumber, String userLocation, Long version) {
+
+    private static final String NOT_AVAILABLE = "정보 없음";
+    private static final PhoneNumber PHONE_NOT_AVAILABLE = PhoneNumber.ofStored(NOT_AVAILABLE);
+
+    /**
+     * 비어 있는 항목을 "정보 없음"으로 채운 뷰 반환 (마이페이지 응답용)
+     */
+    public UserProfileView withDefaults() {
+        return new UserProfileView(
+                userId,
+                userName != null ? userName : NOT_AVAILABLE,
+                phoneNumber != null ? phoneNumber : PHONE_NOT_AVAILABLE,
+                userLocation != null ? userLocation : NOT_AVAILABLE,
+                version);
+    }
+
+    /**
+     * 사용자가 없을 때 사용하는 기본값 뷰
+     */
+    public static UserProfileView placeholder(String userId) {
+        return new UserProfileView(userId, NOT_AVAILABLE, PHONE_NOT_AVAILABLE, NOT_AVAILABLE, null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.restaurant.reservation.dto.view;
+
+/**
+ * 사용자 검색 결과 (검색 인덱스에 저장된 값으로 생성, DB 조회 없음)
+ */
+public record UserSearchHitView(String userId, String userName, String userLocation) {
+}
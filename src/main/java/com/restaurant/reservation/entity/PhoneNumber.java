@@ -0,0 +1,157 @@
+package com.restaurant.reservation.entity;
+
+import com.restaurant.reservation.util.PhoneNumberUtil;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+
+/**
+ * 전화번호 값 타입 (불변)
+ * 
+ * 유효한 한국 전화번호는 국가번호를 제외한 국내 번호를 long 하나(예: 1012345678)와 유형(MOBILE, SEOUL, REGIONAL)으로
+ * 저장하고, 그 외 값은 정규화 결과 문자열을 그대로(RAW) 보관합니다.
+ * E.164, 국제 형식(표시/저장용), 한국 형식 문자열은 처음 요청될 때 한 번만 생성하여 캐시합니다.
+ * 
+ * international()은 항상 PhoneNumberUtil.normalizePhoneNumber(입력값)과 같으므로
+ * PHONE_NUMBER 컬럼과 JSON 응답의 값은 기존 문자열과 동일합니다.
+ * 
+ * @author Team-FOG
+ */
+@Immutable
+public final class PhoneNumber implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Type {
+        /** 휴대폰 (10 + 7~8자리) */
+        MOBILE,
+        /** 서울 지역번호 (2 + 7~8자리) */
+        SEOUL,
+        /** 기타 지역번호 ([3-9]x + 7~8자리) */
+        REGIONAL,
+        /** 파싱할 수 없는 값 (정규화 결과 문자열 그대로) */
+        RAW
+    }
+
+    private final Type type;
+    // 국내 번호 (RAW면 0), 첫 자리가 0이 아니므로 자릿수는 값에서 계산
+    private final long nationalNumber;
+    // RAW 값만 보관
+    private final String raw;
+
+    // 지연 생성 캐시 (String은 불변이므로 경쟁 상태에서도 같은 값이 두 번 생성될 뿐 안전)
+    private transient String e164;
+    private transient String international;
+    private transient String korean;
+
+    private PhoneNumber(Type type, long nationalNumber, String raw) {
+        this.type = type;
+        this.nationalNumber = nationalNumber;
+        this.raw = raw;
+    }
+
+    /**
+     * 임의 형식의 입력값(또는 PHONE_NUMBER 컬럼 값)으로부터 생성
+     * 
+     * @param phoneNumber 입력된 전화번호 (예: 010-1234-5678, +82 10 1234 5678)
+     * @return 전화번호 값, 입력이 null이면 null
+     */
+    public static PhoneNumber parse(String phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+
+        String key = PhoneNumberUtil.toPhoneKey(phoneNumber);
+        if (key == null || !key.startsWith("82")) {
+            // 유효하지 않거나 정규화되지 않는 번호는 기존과 같이 정규화 결과 문자열을 그대로 사용
+            return new PhoneNumber(Type.RAW, 0, PhoneNumberUtil.normalizePhoneNumber(phoneNumber));
+        }
+
+        long nationalNumber = 0;
+        for (int i = 2; i < key.length(); i++) {
+            nationalNumber = nationalNumber * 10 + (key.charAt(i) - '0');
+        }
+        char first = key.charAt(2);
+        Type type = first == '1' ? Type.MOBILE : first == '2' ? Type.SEOUL : Type.REGIONAL;
+        return new PhoneNumber(type, nationalNumber, null);
+    }
+
+    /**
+     * PHONE_NUMBER 컬럼에 저장된 값으로부터 생성
+     * 
+     * 저장된 값이 정규화된 국제 형식이면 parse와 같고, 그 외(임시 번호, 과거 데이터 등)는
+     * 저장된 문자열을 변경 없이 RAW로 보관합니다.
+     */
+    public static PhoneNumber ofStored(String value) {
+        if (value == null) {
+            return null;
+        }
+        PhoneNumber parsed = parse(value);
+        if (parsed.type == Type.RAW ? value.equals(parsed.raw) : value.equals(parsed.international())) {
+            return parsed;
+        }
+        return new PhoneNumber(Type.RAW, 0, value);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * E.164 형식 (예: +821012345678), RAW면 null
+     */
+    public String e164() {
+        String value = e164;
+        if (value == null && type != Type.RAW) {
+            value = "+82" + nationalNumber;
+            e164 = value;
+        }
+        return value;
+    }
+
+    /**
+     * 국제 형식 (예: +82 10 1234 5678), PHONE_NUMBER 컬럼 및 JSON 응답 값
+     */
+    public String international() {
+        String value = international;
+        if (value == null) {
+            value = type == Type.RAW ? raw : PhoneNumberUtil.normalizePhoneNumber(e164());
+            international = value;
+        }
+        return value;
+    }
+
+    /**
+     * 한국 형식 (예: 010-1234-5678, 표시용)
+     */
+    public String korean() {
+        String value = korean;
+        if (value == null) {
+            value = PhoneNumberUtil.toKoreanFormat(international());
+            korean = value;
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PhoneNumber that)) {
+            return false;
+        }
+        return type == that.type && nationalNumber == that.nationalNumber
+                && (type != Type.RAW || raw.equals(that.raw));
+    }
+
+    @Override
+    public int hashCode() {
+        return type == Type.RAW ? raw.hashCode() : Long.hashCode(nationalNumber) * 31 + type.ordinal();
+    }
+
+    @Override
+    public String toString() {
+        return international();
+    }
+}
@@ -0,0 +1,23 @@
+package com.restaurant.reservation.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * PHONE_NUMBER 컬럼 <-> PhoneNumber 변환
+ * 
+ * 컬럼에는 기존과 같은 국제 형식 문자열(예: +82 10 1234 5678)을 저장합니다.
+ */
+@Converter
+public class PhoneNumberConverter implements AttributeConverter<PhoneNumber, String> {
+
+    @Override
+    public String convertToDatabaseColumn(PhoneNumber phoneNumber) {
+        return phoneNumber != null ? phoneNumber.international() : null;
+    }
+
+    @Override
+    public PhoneNumber convertToEntityAttribute(String value) {
+        return PhoneNumber.ofStored(value);
+    }
+}
@@ -1,6 +1,11 @@
 package com.restaurant.reservation.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -15,8 +20,17 @@ import lombok.AllArgsConstructor;
  * 주요 필드:
  * - userId: 사용자 고유 ID (기본키)
  * - userName: 사용자 이름
- * - phoneNumber: 전화번호 (고유값)
+ * - phoneNumber: 전화번호 (PhoneNumber 값 타입, 컬럼에는 국제 형식 문자열)
+ * - phoneKey: 전화번호 정규 키 (E.164 숫자, 고유값, 모든 전화번호 조회 기준)
  * - userLocation: 사용자 주소
+ * - version: 낙관적 잠금 버전
+ * 
+ * 변경된 컬럼만 UPDATE 하도록 @DynamicUpdate를 적용합니다.
+ * 
+ * 2차 캐시(JCache/Caffeine, READ_WRITE)
+ * - user: PK 조회 (프로필, 이름, 인증 주체)
+ * - user-phone-key: 전화번호 키 -> PK (자연 키 조회)
+ * 캐시 크기는 src/main/resources/application.conf에서 설정합니다.
  * 
  * @author FOG Team
  * @version 3.0
@@ -24,6 +38,9 @@ import lombok.AllArgsConstructor;
  */
 @Entity
 @Table(name = "USERS") // 데이터베이스 테이블명 지정
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-phone-key")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -46,11 +63,21 @@ public class User {
     private String userName;
     
     /**
-     * 전화번호
-     * 필수 입력 항목, 고유값, 최대 20자
+     * 전화번호 (표시용, 예: +82 10 1234 5678)
+     * 필수 입력 항목, 최대 20자
      */
-    @Column(name = "PHONE_NUMBER", nullable = false, unique = true, length = 20)
-    private String phoneNumber;
+    @Column(name = "PHONE_NUMBER", nullable = false, length = 20)
+    @Convert(converter = PhoneNumberConverter.class)
+    private PhoneNumber phoneNumber;
+    
+    /**
+     * 전화번호 정규 키 (예: 821012345678)
+     * 고유값, 최대 15자, 유효하지 않은 전화번호는 null
+     * PhoneNumberUtil.toPhoneKey로 생성하며 전화번호 조회/중복 확인은 이 컬럼으로 합니다.
+     */
+    @NaturalId(mutable = true)
+    @Column(name = "PHONE_KEY", unique = true, length = 15)
+    private String phoneKey;
     
     /**
      * 사용자 주소
@@ -58,4 +85,12 @@ public class User {
      */
     @Column(name = "USER_LOCATION", length = 50)
     private String userLocation;
+    
+    /**
+     * 낙관적 잠금 버전
+     * 수정할 때마다 1씩 증가, 신규 사용자는 null (저장 시 0으로 초기화)
+     */
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
 } 
\ No newline at end of file
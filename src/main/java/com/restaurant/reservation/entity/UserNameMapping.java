@@ -1,5 +0,0 @@
-package com.restaurant.reservation.entity;
-
-public interface UserNameMapping {
-    String getUserName();
-}
@@ -0,0 +1,12 @@
+package com.restaurant.reservation.event;
+
+import java.time.Instant;
+
+/**
+ * 아웃박스(USER_OUTBOX)에서 읽은 사용자 변경 이벤트 - 인스턴스별 로컬 캐시/인덱스 갱신용
+ * 
+ * 어느 인스턴스에서 커밋된 변경이든 모든 인스턴스에서 한 번씩 발행됩니다. (자기 자신의 변경 포함)
+ * UserChangedEvent를 다시 발행하면 아웃박스에 재기록되므로 별도 타입으로 발행합니다.
+ */
+public record UserChangeFeedEvent(long outboxId, UserChangedEvent change, Instant createdAt) {
+}
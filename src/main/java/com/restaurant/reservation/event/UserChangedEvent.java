@@ -0,0 +1,22 @@
+package com.restaurant.reservation.event;
+
+/**
+ * 사용자 생성/수정 이벤트
+ * 
+ * 사용자 데이터를 변경하는 트랜잭션 안에서 발행하며, 수신 측은 커밋 이후(AFTER_COMMIT)
+ * 또는 같은 트랜잭션 안에서 처리할 수 있습니다. 변경 후 값을 함께 담습니다.
+ */
+public record UserChangedEvent(Type type, String userId, String userName, String userLocation) {
+
+    public enum Type {
+        CREATED, UPDATED
+    }
+
+    public static UserChangedEvent created(String userId, String userName, String userLocation) {
+        return new UserChangedEvent(Type.CREATED, userId, userName, userLocation);
+    }
+
+    public static UserChangedEvent updated(String userId, String userName, String userLocation) {
+        return new UserChangedEvent(Type.UPDATED, userId, userName, userLocation);
+    }
+}
@@ -0,0 +1,78 @@
+package com.restaurant.reservation.grpc;
+
+import com.restaurant.reservation.config.GrpcServerProperties;
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * gRPC 서버 시작/종료 관리
+ * 
+ * 컨텍스트 초기화가 끝난 뒤 grpc.server.port에서 수신을 시작하고,
+ * 종료 시에는 새 호출을 받지 않고 진행 중인 호출을 shutdown-grace-seconds 동안 기다립니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "grpc.server", name = "enabled", havingValue = "true")
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+
+    private final GrpcServerProperties properties;
+    private final List<BindableService> services;
+
+    private volatile Server server;
+
+    public GrpcServerLifecycle(GrpcServerProperties properties, List<BindableService> services) {
+        this.properties = properties;
+        this.services = services;
+    }
+
+    @Override
+    public void start() {
+        NettyServerBuilder builder = NettyServerBuilder.forPort(properties.getPort())
+                .maxConcurrentCallsPerConnection(properties.getMaxConcurrentCallsPerConnection());
+        services.forEach(builder::addService);
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("gRPC 서버 시작 실패: port=" + properties.getPort(), e);
+        }
+        logger.info("gRPC 서버 시작: port={}, services={}", server.getPort(),
+                services.stream().map(s -> s.bindService().getServiceDescriptor().getName()).toList());
+    }
+
+    @Override
+    public void stop() {
+        Server current = server;
+        if (current == null) {
+            return;
+        }
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(properties.getShutdownGraceSeconds(), TimeUnit.SECONDS)) {
+                logger.warn("gRPC 서버 종료 대기 시간 초과, 진행 중인 호출을 취소합니다");
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+        logger.info("gRPC 서버 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
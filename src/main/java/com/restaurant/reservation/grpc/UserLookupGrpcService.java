@@ -0,0 +1,141 @@
+package com.restaurant.reservation.grpc;
+
+import com.restaurant.reservation.config.GrpcServerProperties;
+import com.restaurant.reservation.config.JwtTokenUtil;
+import com.restaurant.reservation.dto.response.UserNameResponse;
+import com.restaurant.reservation.grpc.v1.BatchGetUsersRequest;
+import com.restaurant.reservation.grpc.v1.GetUserNameRequest;
+import com.restaurant.reservation.grpc.v1.GetUserNameResponse;
+import com.restaurant.reservation.grpc.v1.UserLookupGrpc;
+import com.restaurant.reservation.grpc.v1.UserName;
+import com.restaurant.reservation.grpc.v1.ValidateTokenRequest;
+import com.restaurant.reservation.grpc.v1.ValidateTokenResponse;
+import com.restaurant.reservation.service.UserService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 조회 gRPC 서비스 구현 (user_lookup.proto)
+ * 
+ * REST API와 같은 UserService / JwtTokenUtil을 사용하므로 2차 캐시와 토큰 검증 규칙(JWKS 서명 검증)이 동일합니다.
+ * ValidateToken은 서명 검증을 통과한 토큰의 클레임만 반환합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "grpc.server", name = "enabled", havingValue = "true")
+public class UserLookupGrpcService extends UserLookupGrpc.UserLookupImplBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserLookupGrpcService.class);
+
+    private final UserService userService;
+    private final JwtTokenUtil jwtTokenUtil;
+    private final GrpcServerProperties properties;
+
+    public UserLookupGrpcService(UserService userService, JwtTokenUtil jwtTokenUtil, GrpcServerProperties properties) {
+        this.userService = userService;
+        this.jwtTokenUtil = jwtTokenUtil;
+        this.properties = properties;
+    }
+
+    @Override
+    public void getUserName(GetUserNameRequest request, StreamObserver<GetUserNameResponse> responseObserver) {
+        if (request.getUserId().isEmpty()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription("user_id is required").asRuntimeException());
+            return;
+        }
+        try {
+            String userName = userService.getUserName(request.getUserId());
+            if (userName == null) {
+                responseObserver.onError(Status.NOT_FOUND.withDescription("user not found").asRuntimeException());
+                return;
+            }
+            responseObserver.onNext(GetUserNameResponse.newBuilder()
+                    .setUserId(request.getUserId())
+                    .setUserName(userName)
+                    .build());
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            logger.error("gRPC 사용자 이름 조회 중 오류 발생: userId={}", request.getUserId(), e);
+            responseObserver.onError(toStatus(e).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void batchGetUsers(BatchGetUsersRequest request, StreamObserver<UserName> responseObserver) {
+        List<String> userIds = request.getUserIdsList();
+        if (userIds.size() > properties.getMaxBatchSize()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("user_ids must not exceed " + properties.getMaxBatchSize())
+                    .asRuntimeException());
+            return;
+        }
+        ServerCallStreamObserver<UserName> serverObserver = (ServerCallStreamObserver<UserName>) responseObserver;
+        try {
+            // chunk 단위로 조회 후 바로 전송 (첫 응답까지의 지연과 서버 메모리를 요청 크기와 무관하게 유지)
+            int chunkSize = properties.getBatchChunkSize();
+            for (int from = 0; from < userIds.size(); from += chunkSize) {
+                if (serverObserver.isCancelled()) {
+                    logger.debug("gRPC 사용자 일괄 조회 취소됨: sent={}/{}", from, userIds.size());
+                    return;
+                }
+                List<String> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+                for (UserNameResponse user : userService.getUserNames(chunk)) {
+                    serverObserver.onNext(UserName.newBuilder()
+                            .setUserId(user.userId())
+                            .setUserName(user.userName())
+                            .build());
+                }
+            }
+            serverObserver.onCompleted();
+        } catch (Exception e) {
+            logger.error("gRPC 사용자 일괄 조회 중 오류 발생: size={}", userIds.size(), e);
+            serverObserver.onError(toStatus(e).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void validateToken(ValidateTokenRequest request, StreamObserver<ValidateTokenResponse> responseObserver) {
+        try {
+            if (!jwtTokenUtil.validateToken(request.getToken())) {
+                responseObserver.onNext(ValidateTokenResponse.newBuilder().setValid(false).build());
+                responseObserver.onCompleted();
+                return;
+            }
+            Map<String, Object> userInfo = jwtTokenUtil.getUserInfoFromToken(request.getToken());
+            ValidateTokenResponse.Builder response = ValidateTokenResponse.newBuilder().setValid(true);
+            if (userInfo.get("sub") instanceof String sub) {
+                response.setUserId(sub);
+            }
+            if (userInfo.get("cognito:groups") instanceof Collection<?> groups) {
+                groups.forEach(group -> response.addGroups(group.toString()));
+            }
+            if (userInfo.get("exp") instanceof Number exp) {
+                response.setExpiresAtEpochSeconds(exp.longValue());
+            }
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            logger.error("gRPC 토큰 검증 중 오류 발생", e);
+            responseObserver.onError(toStatus(e).asRuntimeException());
+        }
+    }
+
+    /**
+     * DB 오류는 호출 측 재시도 대상(UNAVAILABLE), 그 외는 INTERNAL
+     */
+    private static Status toStatus(Exception e) {
+        if (e instanceof DataAccessException) {
+            return Status.UNAVAILABLE.withDescription("database unavailable").withCause(e);
+        }
+        return Status.INTERNAL.withDescription(e.getClass().getSimpleName()).withCause(e);
+    }
+}
@@ -0,0 +1,46 @@
+package com.restaurant.reservation.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.restaurant.reservation.config.UserOutboxProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 파일 sink (이벤트를 한 줄에 하나씩 NDJSON으로 이어 쓰기, 로컬 확인용)
+ */
+@Component
+@ConditionalOnExpression("${user-outbox.enabled:false} && '${user-outbox.file.path:}' != ''")
+public class FileUserEventSink implements UserEventSink {
+
+    private final Path path;
+    private final ObjectWriter messageWriter;
+
+    public FileUserEventSink(UserOutboxProperties properties, ObjectMapper objectMapper) {
+        this.path = Path.of(properties.getFile().getPath());
+        this.messageWriter = objectMapper.writerFor(UserOutboxMessage.class);
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public synchronized void publish(List<UserOutboxMessage> batch) throws Exception {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (UserOutboxMessage message : batch) {
+                writer.write(messageWriter.writeValueAsString(message));
+                writer.newLine();
+            }
+        }
+    }
+}
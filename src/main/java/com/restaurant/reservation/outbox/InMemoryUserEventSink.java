@@ -0,0 +1,47 @@
+package com.restaurant.reservation.outbox;
+
+import com.restaurant.reservation.config.UserOutboxProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 인메모리 sink (최근 이벤트를 정해진 개수만큼 보관, 로컬/테스트용)
+ */
+@Component
+@ConditionalOnExpression("${user-outbox.enabled:false} && ${user-outbox.memory.enabled:false}")
+public class InMemoryUserEventSink implements UserEventSink {
+
+    private final int capacity;
+    private final Deque<UserOutboxMessage> messages = new ArrayDeque<>();
+
+    public InMemoryUserEventSink(UserOutboxProperties properties) {
+        this.capacity = Math.max(properties.getMemory().getCapacity(), 1);
+    }
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public synchronized void publish(List<UserOutboxMessage> batch) {
+        for (UserOutboxMessage message : batch) {
+            if (messages.size() == capacity) {
+                messages.removeFirst();
+            }
+            messages.addLast(message);
+        }
+    }
+
+    /**
+     * 보관 중인 이벤트 (오래된 순)
+     */
+    public synchronized List<UserOutboxMessage> messages() {
+        return new ArrayList<>(messages);
+    }
+}
@@ -0,0 +1,96 @@
+package com.restaurant.reservation.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.restaurant.reservation.config.QueryLabel;
+import com.restaurant.reservation.config.UserOutboxProperties;
+import com.restaurant.reservation.event.UserChangeFeedEvent;
+import com.restaurant.reservation.event.UserChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인스턴스별 사용자 변경 피드
+ * 
+ * 모든 인스턴스가 각자 USER_OUTBOX의 최근 이벤트를 주기적으로 읽어 UserChangeFeedEvent로 발행합니다.
+ * 다른 인스턴스에서 커밋된 변경으로 이 인스턴스의 로컬 캐시(2차 캐시, 버전 캐시, 검색 인덱스)를 갱신하는 용도이며,
+ * 릴레이(UserOutboxRelay)와 달리 전달 위치를 DB에 저장하지 않습니다.
+ * - 기동 시점 이후의 이벤트부터 발행 (기동 직후 로컬 캐시는 비어 있음)
+ * - CREATED_AT 기준으로 feed-lookback-seconds만큼 겹쳐 읽어, 늦게 커밋되거나 인스턴스 간 시각 차이가 있는
+ *   이벤트도 놓치지 않고 ID로 중복을 제거
+ */
+@Component
+@ConditionalOnProperty(prefix = "user-outbox", name = "enabled", havingValue = "true")
+public class UserChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserChangeFeed.class);
+
+    private static final String SELECT_RECENT_SQL =
+            "SELECT ID, EVENT_TYPE, USER_ID, PAYLOAD, CREATED_AT FROM USER_OUTBOX WHERE CREATED_AT >= ? ORDER BY ID";
+
+    private static final RowMapper<UserOutboxMessage> MESSAGE_MAPPER = (rs, rowNum) -> new UserOutboxMessage(
+            rs.getLong("ID"), rs.getString("EVENT_TYPE"), rs.getString("USER_ID"),
+            rs.getString("PAYLOAD"), rs.getTimestamp("CREATED_AT").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader payloadReader;
+    private final long lookbackSeconds;
+
+    // 발행한 이벤트 ID -> CREATED_AT (겹쳐 읽는 구간의 중복 제거용)
+    private final Map<Long, Instant> published = new HashMap<>();
+    private Instant lastPolledAt = Instant.now();
+
+    public UserChangeFeed(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+                          ObjectMapper objectMapper, UserOutboxProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.payloadReader = objectMapper.readerFor(UserChangedEvent.class);
+        this.lookbackSeconds = properties.getFeedLookbackSeconds();
+    }
+
+    @Scheduled(initialDelayString = "${user-outbox.feed-interval-ms:1000}",
+               fixedDelayString = "${user-outbox.feed-interval-ms:1000}")
+    public synchronized void poll() {
+        Instant polledAt = Instant.now();
+        Instant from = lastPolledAt.minusSeconds(lookbackSeconds);
+
+        List<UserOutboxMessage> messages;
+        try (QueryLabel.Scope ignored = QueryLabel.open("UserOutbox.feed")) {
+            messages = jdbcTemplate.query(SELECT_RECENT_SQL, MESSAGE_MAPPER, Timestamp.from(from));
+        } catch (Exception e) {
+            logger.warn("사용자 변경 피드 조회 실패, 다음 주기에 재시도: error={}", e.getMessage());
+            return;
+        }
+
+        for (UserOutboxMessage message : messages) {
+            if (published.putIfAbsent(message.id(), message.createdAt()) != null) {
+                continue;
+            }
+            try {
+                UserChangedEvent change = payloadReader.readValue(message.payload());
+                eventPublisher.publishEvent(new UserChangeFeedEvent(message.id(), change, message.createdAt()));
+            } catch (Exception e) {
+                logger.warn("사용자 변경 피드 이벤트 처리 실패: id={}, userId={}, error={}",
+                        message.id(), message.userId(), e.getMessage());
+            }
+        }
+
+        // 다음 주기에 다시 읽지 않는 구간은 중복 제거 대상에서 제외
+        Instant nextFrom = polledAt.minusSeconds(lookbackSeconds);
+        published.values().removeIf(createdAt -> createdAt.isBefore(nextFrom));
+        lastPolledAt = polledAt;
+    }
+}
@@ -0,0 +1,19 @@
+package com.restaurant.reservation.outbox;
+
+import java.util.List;
+
+/**
+ * 사용자 변경 이벤트 전달 대상
+ * 
+ * publish는 트랜잭션 밖에서 호출됩니다. 예외 없이 끝나면 해당 배치는 전달된 것으로 기록하며,
+ * 예외가 발생하면 같은 배치를 다음 주기에 다시 전달합니다.
+ */
+public interface UserEventSink {
+
+    /**
+     * 전달 위치/기록 저장 키 (USER_OUTBOX_OFFSET.SINK_NAME, USER_OUTBOX_DELIVERY.SINK_NAME)
+     */
+    String name();
+
+    void publish(List<UserOutboxMessage> batch) throws Exception;
+}
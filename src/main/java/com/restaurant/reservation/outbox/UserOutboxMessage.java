@@ -0,0 +1,15 @@
+package com.restaurant.reservation.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+
+/**
+ * 아웃박스에서 읽은 사용자 변경 이벤트
+ * 
+ * id는 아웃박스 시퀀스 번호로, 수신 측은 id로 중복을 제거합니다. (전달은 at-least-once)
+ * 늦게 커밋된 이벤트는 더 큰 id보다 나중에 전달될 수 있으므로 "마지막으로 처리한 id" 비교로 거르면 안 됩니다.
+ * payload는 UserChangedEvent JSON으로, 직렬화 시 문자열이 아닌 객체로 포함됩니다.
+ */
+public record UserOutboxMessage(long id, String eventType, String userId, @JsonRawValue String payload, Instant createdAt) {
+}
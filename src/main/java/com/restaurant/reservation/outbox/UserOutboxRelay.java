@@ -0,0 +1,244 @@
+package com.restaurant.reservation.outbox;
+
+import com.restaurant.reservation.config.QueryLabel;
+import com.restaurant.reservation.config.UserOutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 아웃박스 릴레이
+ * 
+ * 주기적으로 sink마다 아직 전달하지 않은 이벤트를 ID 순으로 배치로 읽어 전달합니다.
+ * - sink별 리스(USER_OUTBOX_OFFSET.LEASE_OWNER/LEASE_UNTIL)를 가진 인스턴스 하나만 전달
+ * - 배치 조회 -> 트랜잭션/커넥션 없이 전달 -> 짧은 트랜잭션에서 전달 기록 순서로 처리하므로,
+ *   느린 웹훅이 커넥션이나 행 잠금을 잡고 있지 않음
+ * - 전달 여부는 이벤트 ID별로 기록(USER_OUTBOX_DELIVERY)하므로, 시퀀스 순서보다 늦게 커밋된 이벤트도
+ *   다음 주기에 전달 (단일 offset 기준으로 건너뛰지 않음)
+ * - LAST_ID는 그 이하가 모두 전달된 위치(low-water mark)로, settle-seconds가 지나도 보이지 않는 ID는
+ *   롤백된 것으로 보고 넘어감 (ID는 커밋 직전에 할당되므로 settle-seconds보다 늦게 커밋되지 않음)
+ * - 전달 실패 시 기록하지 않고 다음 주기에 같은 배치부터 재전달 (at-least-once)
+ * - 모든 sink에 전달되고 보관 기간이 지난 이벤트는 삭제
+ */
+@Component
+@ConditionalOnProperty(prefix = "user-outbox", name = "enabled", havingValue = "true")
+public class UserOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserOutboxRelay.class);
+
+    private static final String INIT_OFFSET_SQL =
+            "INSERT INTO USER_OUTBOX_OFFSET (SINK_NAME, LAST_ID, UPDATED_AT) VALUES (?, 0, ?)";
+    private static final String ACQUIRE_LEASE_SQL =
+            "UPDATE USER_OUTBOX_OFFSET SET LEASE_OWNER = ?, LEASE_UNTIL = ? " +
+            "WHERE SINK_NAME = ? AND (LEASE_OWNER IS NULL OR LEASE_OWNER = ? OR LEASE_UNTIL < ?)";
+    private static final String RELEASE_LEASE_SQL =
+            "UPDATE USER_OUTBOX_OFFSET SET LEASE_OWNER = NULL, LEASE_UNTIL = NULL WHERE SINK_NAME = ? AND LEASE_OWNER = ?";
+    private static final String SELECT_OFFSET_SQL =
+            "SELECT LAST_ID FROM USER_OUTBOX_OFFSET WHERE SINK_NAME = ?";
+    private static final String SELECT_BATCH_SQL =
+            "SELECT o.ID, o.EVENT_TYPE, o.USER_ID, o.PAYLOAD, o.CREATED_AT FROM USER_OUTBOX o " +
+            "WHERE o.ID > ? AND NOT EXISTS (" +
+            "SELECT 1 FROM USER_OUTBOX_DELIVERY d WHERE d.SINK_NAME = ? AND d.EVENT_ID = o.ID) " +
+            "ORDER BY o.ID FETCH FIRST ? ROWS ONLY";
+    private static final String INSERT_DELIVERY_SQL =
+            "INSERT INTO USER_OUTBOX_DELIVERY (SINK_NAME, EVENT_ID, DELIVERED_AT) VALUES (?, ?, ?)";
+    private static final String FIRST_PENDING_SQL =
+            "SELECT MIN(o.ID) FROM USER_OUTBOX o WHERE o.ID > ? AND NOT EXISTS (" +
+            "SELECT 1 FROM USER_OUTBOX_DELIVERY d WHERE d.SINK_NAME = ? AND d.EVENT_ID = o.ID)";
+    private static final String SETTLED_MAX_SQL =
+            "SELECT MAX(ID) FROM USER_OUTBOX WHERE ID > ? AND CREATED_AT < ?";
+    private static final String UPDATE_OFFSET_SQL =
+            "UPDATE USER_OUTBOX_OFFSET SET LAST_ID = ?, UPDATED_AT = ? WHERE SINK_NAME = ? AND LAST_ID < ?";
+    private static final String DELETE_DELIVERY_SQL =
+            "DELETE FROM USER_OUTBOX_DELIVERY WHERE SINK_NAME = ? AND EVENT_ID <= ?";
+    private static final String PURGE_SQL =
+            "DELETE FROM USER_OUTBOX WHERE CREATED_AT < ? " +
+            "AND ID <= (SELECT MIN(LAST_ID) FROM USER_OUTBOX_OFFSET WHERE SINK_NAME IN (%s))";
+
+    private static final RowMapper<UserOutboxMessage> MESSAGE_MAPPER = (rs, rowNum) -> new UserOutboxMessage(
+            rs.getLong("ID"), rs.getString("EVENT_TYPE"), rs.getString("USER_ID"),
+            rs.getString("PAYLOAD"), rs.getTimestamp("CREATED_AT").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserOutboxProperties properties;
+    private final List<UserEventSink> sinks;
+    private final MeterRegistry meterRegistry;
+    private final String instanceId;
+
+    public UserOutboxRelay(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           UserOutboxProperties properties, ObjectProvider<UserEventSink> sinks, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.sinks = sinks.orderedStream().toList();
+        this.meterRegistry = meterRegistry;
+        this.instanceId = instanceId();
+
+        logger.info("아웃박스 릴레이 sink: {}, instance={}", this.sinks.stream().map(UserEventSink::name).toList(), instanceId);
+        this.sinks.forEach(sink -> initOffset(sink.name()));
+    }
+
+    @Scheduled(initialDelayString = "${user-outbox.relay-interval-ms:1000}",
+               fixedDelayString = "${user-outbox.relay-interval-ms:1000}")
+    public void relay() {
+        for (UserEventSink sink : sinks) {
+            try {
+                if (!acquireLease(sink.name())) {
+                    continue;
+                }
+                // 배치가 가득 찬 경우 밀린 이벤트가 더 있으므로 이어서 전달
+                while (relayBatch(sink) >= properties.getBatchSize()) {
+                    logger.debug("아웃박스 밀린 이벤트 계속 전달: sink={}", sink.name());
+                }
+            } catch (Exception e) {
+                Counter.builder("user.outbox.failures").tag("sink", sink.name())
+                        .description("아웃박스 전달 실패 횟수")
+                        .register(meterRegistry).increment();
+                logger.warn("아웃박스 전달 실패, 다음 주기에 재시도: sink={}, error={}", sink.name(), e.getMessage());
+            }
+        }
+        purge();
+    }
+
+    /**
+     * 종료 시 리스 반납 (다른 인스턴스가 리스 만료를 기다리지 않고 이어서 전달)
+     */
+    @PreDestroy
+    public void releaseLeases() {
+        for (UserEventSink sink : sinks) {
+            try {
+                jdbcTemplate.update(RELEASE_LEASE_SQL, sink.name(), instanceId);
+            } catch (Exception e) {
+                logger.debug("아웃박스 리스 반납 실패: sink={}, error={}", sink.name(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * sink 리스 획득 또는 연장 (자동 커밋 UPDATE 한 건)
+     */
+    private boolean acquireLease(String sinkName) {
+        Instant now = Instant.now();
+        try (QueryLabel.Scope ignored = QueryLabel.open("UserOutbox.lease")) {
+            return jdbcTemplate.update(ACQUIRE_LEASE_SQL, instanceId,
+                    Timestamp.from(now.plusSeconds(properties.getLeaseSeconds())),
+                    sinkName, instanceId, Timestamp.from(now)) == 1;
+        }
+    }
+
+    /**
+     * sink 하나에 배치 하나 전달
+     * 
+     * @return 전달한 이벤트 수
+     */
+    private int relayBatch(UserEventSink sink) throws Exception {
+        List<UserOutboxMessage> batch;
+        try (QueryLabel.Scope ignored = QueryLabel.open("UserOutbox.relay")) {
+            long lastId = jdbcTemplate.queryForObject(SELECT_OFFSET_SQL, Long.class, sink.name());
+            batch = jdbcTemplate.query(SELECT_BATCH_SQL, MESSAGE_MAPPER, lastId, sink.name(), properties.getBatchSize());
+        }
+        if (batch.isEmpty()) {
+            advanceOffset(sink.name());
+            return 0;
+        }
+
+        // 트랜잭션 밖에서 전달 (커넥션 미사용)
+        sink.publish(batch);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (QueryLabel.Scope ignored = QueryLabel.open("UserOutbox.delivered")) {
+                Timestamp deliveredAt = Timestamp.from(Instant.now());
+                jdbcTemplate.batchUpdate(INSERT_DELIVERY_SQL, batch, batch.size(), (ps, message) -> {
+                    ps.setString(1, sink.name());
+                    ps.setLong(2, message.id());
+                    ps.setTimestamp(3, deliveredAt);
+                });
+            }
+        });
+        advanceOffset(sink.name());
+
+        Counter.builder("user.outbox.published").tag("sink", sink.name())
+                .description("아웃박스에서 전달한 이벤트 수")
+                .register(meterRegistry).increment(batch.size());
+        return batch.size();
+    }
+
+    /**
+     * low-water mark 전진: 미전달 이벤트 바로 앞까지, 단 settle-seconds가 지난 이벤트 범위 안에서만
+     * (아직 커밋되지 않은 더 작은 ID가 있을 수 있는 최근 범위는 넘어가지 않음)
+     */
+    private void advanceOffset(String sinkName) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (QueryLabel.Scope ignored = QueryLabel.open("UserOutbox.offset")) {
+                long lastId = jdbcTemplate.queryForObject(SELECT_OFFSET_SQL, Long.class, sinkName);
+                Timestamp settledBefore = Timestamp.from(Instant.now().minusSeconds(properties.getSettleSeconds()));
+                Long settledMax = jdbcTemplate.queryForObject(SETTLED_MAX_SQL, Long.class, lastId, settledBefore);
+                if (settledMax == null) {
+                    return;
+                }
+                Long firstPending = jdbcTemplate.queryForObject(FIRST_PENDING_SQL, Long.class, lastId, sinkName);
+                long newLastId = firstPending != null ? Math.min(settledMax, firstPending - 1) : settledMax;
+                if (newLastId > lastId
+                        && jdbcTemplate.update(UPDATE_OFFSET_SQL, newLastId, Timestamp.from(Instant.now()), sinkName, newLastId) == 1) {
+                    jdbcTemplate.update(DELETE_DELIVERY_SQL, sinkName, newLastId);
+                }
+            }
+        });
+    }
+
+    private void initOffset(String sinkName) {
+        try {
+            jdbcTemplate.update(INIT_OFFSET_SQL, sinkName, Timestamp.from(Instant.now()));
+            logger.info("아웃박스 offset 생성: sink={}", sinkName);
+        } catch (DuplicateKeyException e) {
+            // 이미 존재 (재기동 또는 다른 인스턴스에서 생성)
+        }
+    }
+
+    private void purge() {
+        if (sinks.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(", ", sinks.stream().map(sink -> "?").toList());
+        Object[] args = new Object[sinks.size() + 1];
+        args[0] = Timestamp.from(Instant.now().minus(properties.getRetentionHours(), ChronoUnit.HOURS));
+        for (int i = 0; i < sinks.size(); i++) {
+            args[i + 1] = sinks.get(i).name();
+        }
+        try (QueryLabel.Scope ignored = QueryLabel.open("UserOutbox.purge")) {
+            int deleted = jdbcTemplate.update(String.format(PURGE_SQL, placeholders), args);
+            if (deleted > 0) {
+                logger.info("전달 완료된 아웃박스 이벤트 삭제: count={}", deleted);
+            }
+        }
+    }
+
+    private static String instanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,90 @@
+package com.restaurant.reservation.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.restaurant.reservation.config.QueryLabel;
+import com.restaurant.reservation.event.UserChangedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 변경 이벤트를 같은 트랜잭션 안에서 USER_OUTBOX에 기록
+ * 
+ * 이벤트는 트랜잭션별로 모아 두었다가 커밋 직전(beforeCommit)에 한 번의 배치 INSERT로 기록하므로,
+ * 사용자 변경과 아웃박스 기록은 함께 커밋되거나 함께 롤백됩니다.
+ * 트랜잭션 밖에서 발행된 이벤트는 유실을 막기 위해 예외로 처리합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "user-outbox", name = "enabled", havingValue = "true")
+public class UserOutboxWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO USER_OUTBOX (ID, EVENT_TYPE, USER_ID, PAYLOAD, CREATED_AT) " +
+            "VALUES (USER_OUTBOX_SEQ.NEXTVAL, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectWriter payloadWriter;
+
+    public UserOutboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.payloadWriter = objectMapper.writerFor(UserChangedEvent.class);
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("사용자 변경 이벤트는 트랜잭션 안에서 발행해야 합니다: userId=" + event.userId());
+        }
+
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.add(event);
+    }
+
+    /**
+     * 트랜잭션별로 모은 이벤트 (커밋 직전 배치 INSERT)
+     */
+    private class PendingEvents implements TransactionSynchronization {
+        private final List<UserChangedEvent> events = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            Timestamp createdAt = Timestamp.from(Instant.now());
+            try (QueryLabel.Scope ignored = QueryLabel.open("UserOutbox.insert")) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+                    ps.setString(1, event.type().name());
+                    ps.setString(2, event.userId());
+                    ps.setString(3, toPayload(event));
+                    ps.setTimestamp(4, createdAt);
+                });
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(UserOutboxWriter.this);
+        }
+    }
+
+    private String toPayload(UserChangedEvent event) {
+        try {
+            return payloadWriter.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("사용자 변경 이벤트 직렬화 실패: userId=" + event.userId(), e);
+        }
+    }
+}
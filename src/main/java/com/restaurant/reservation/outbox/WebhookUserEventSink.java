@@ -0,0 +1,67 @@
+package com.restaurant.reservation.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.restaurant.reservation.config.UserOutboxProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HTTP 웹훅 sink
+ * 
+ * 설정된 모든 URL에 배치를 JSON 배열로 동시에 POST하며, 하나라도 2xx가 아니면 배치 전체를 재전달합니다.
+ * (수신 측은 id로 중복을 제거해야 합니다.)
+ */
+@Component
+@ConditionalOnExpression("${user-outbox.enabled:false} && '${user-outbox.webhook.urls:}' != ''")
+public class WebhookUserEventSink implements UserEventSink {
+
+    private final List<URI> urls;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    private final ObjectWriter batchWriter;
+
+    public WebhookUserEventSink(UserOutboxProperties properties, ObjectMapper objectMapper) {
+        this.urls = properties.getWebhook().getUrls().stream().map(URI::create).toList();
+        this.timeout = Duration.ofMillis(properties.getWebhook().getTimeoutMs());
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.batchWriter = objectMapper.writerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, UserOutboxMessage.class));
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public void publish(List<UserOutboxMessage> batch) throws Exception {
+        byte[] body = batchWriter.writeValueAsBytes(batch);
+
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(urls.size());
+        for (URI url : urls) {
+            HttpRequest request = HttpRequest.newBuilder(url)
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
+            responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+
+        for (int i = 0; i < urls.size(); i++) {
+            int statusCode = responses.get(i).join().statusCode();
+            if (statusCode < 200 || statusCode >= 300) {
+                throw new IllegalStateException("웹훅 응답 오류: url=" + urls.get(i) + ", status=" + statusCode);
+            }
+        }
+    }
+}
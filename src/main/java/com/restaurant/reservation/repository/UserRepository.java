@@ -1,31 +1,61 @@
 package com.restaurant.reservation.repository;
 
+import com.restaurant.reservation.dto.view.UserAvailabilityView;
+import com.restaurant.reservation.dto.view.UserNameView;
+import com.restaurant.reservation.dto.view.UserProfileView;
 import com.restaurant.reservation.entity.User;
-import com.restaurant.reservation.entity.UserNameMapping;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, String> {
-    
-    // 회원가입용 - userName, phoneNumber만 조회
-    @Query("SELECT u.userName, u.phoneNumber FROM User u WHERE u.userName = :userName OR u.phoneNumber = :phoneNumber")
-    Optional<Object[]> findUserNameAndPhoneNumberByUserNameOrPhoneNumber(@Param("userName") String userName, @Param("phoneNumber") String phoneNumber);
-    
-    // 사용자 정보 조회용 (createdAt 제거)
-    @Query("SELECT u.userId, u.userName, u.phoneNumber, u.userLocation FROM User u WHERE u.userId = :userId")
-    Optional<Object[]> findUserInfoByUserId(@Param("userId") String userId);
-    
-    // 중복 확인용
-    boolean existsByUserId(String userId);
-    boolean existsByPhoneNumber(String phoneNumber);
-    
-    // 전화번호로 사용자 조회
-    Optional<User> findByPhoneNumber(String phoneNumber);
+public interface UserRepository extends JpaRepository<User, String>, UserRepositoryCustom {
+
+    // 회원가입 가용성 확인용 - userId, phoneKey만 조회 (PK + 전화번호 키 유니크 인덱스, 최대 2건)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.restaurant.reservation.dto.view.UserAvailabilityView(u.userId, u.phoneKey) " +
+           "FROM User u WHERE u.userId = :userId OR u.phoneKey = :phoneKey")
+    List<UserAvailabilityView> findAvailabilityByUserIdOrPhoneKey(@Param("userId") String userId, @Param("phoneKey") String phoneKey);
+
+    // 사용자 정보 조회용 (마이페이지, 수정 후 응답) - 다른 인스턴스의 수정이 바로 보여야 하므로 2차 캐시를 거치지 않음
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.restaurant.reservation.dto.view.UserProfileView(u.userId, u.userName, u.phoneNumber, u.userLocation, u.version) " +
+           "FROM User u WHERE u.userId = :userId")
+    Optional<UserProfileView> findProfileViewByUserId(@Param("userId") String userId);
+
+    // 사용자 이름 조회용 (다른 서비스 연동)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.restaurant.reservation.dto.view.UserNameView(u.userId, u.userName) FROM User u WHERE u.userId = :userId")
+    Optional<UserNameView> findNameViewByUserId(@Param("userId") String userId);
 
-    UserNameMapping getUserNameByUserId(String id);
-} 
\ No newline at end of file
+    // 낙관적 잠금 버전 조회용 (버전 없이 들어온 수정 요청)
+    @Query("SELECT u.version FROM User u WHERE u.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") String userId);
+
+    // 일괄 등록 시 기존 데이터와의 중복 확인용 (IN 목록은 1000개 이하로 호출)
+    @Query("SELECT u.userId FROM User u WHERE u.userId IN :userIds")
+    List<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
+
+    @Query("SELECT u.phoneKey FROM User u WHERE u.phoneKey IN :phoneKeys")
+    List<String> findExistingPhoneKeys(@Param("phoneKeys") Collection<String> phoneKeys);
+
+    // 중복 확인용 (아이디/전화번호 키 단건 조회는 2차 캐시를 거치는 findById, existsByPhoneKey 사용)
+    boolean existsByUserId(String userId);
+}
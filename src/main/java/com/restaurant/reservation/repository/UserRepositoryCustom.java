@@ -0,0 +1,51 @@
+package com.restaurant.reservation.repository;
+
+import com.restaurant.reservation.dto.view.UserListItemView;
+import com.restaurant.reservation.entity.PhoneNumber;
+import com.restaurant.reservation.entity.User;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * UserRepository 사용자 정의 쿼리 (Criteria API / 2차 캐시 기반)
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * 전달된(null이 아닌) 컬럼만 수정하고 버전을 1 증가
+     * 전화번호를 수정하는 경우 전화번호 키도 함께 수정 (phoneKey는 null 허용)
+     * 
+     * @param expectedVersion 현재 버전, 일치하지 않으면 수정하지 않음
+     * @return 수정된 행 수 (0이면 사용자가 없거나 버전 불일치)
+     */
+    int updateChangedColumns(String userId, long expectedVersion, String userName, PhoneNumber phoneNumber, String phoneKey, String userLocation);
+
+    /**
+     * 전화번호 키(자연 키)로 사용자 조회 (user-phone-key 캐시 -> user 캐시 -> DB 순)
+     */
+    Optional<User> findByPhoneKey(String phoneKey);
+
+    /**
+     * 여러 사용자 ID로 조회 (user 캐시에 있는 사용자는 DB 조회 없이, 나머지만 IN 조회)
+     * 결과는 요청 순서이며 없는 사용자는 제외됩니다.
+     */
+    List<User> findAllByUserIds(List<String> userIds);
+
+    /**
+     * 전화번호 키 존재 여부 (findByPhoneKey와 같은 캐시 경로)
+     */
+    boolean existsByPhoneKey(String phoneKey);
+
+    /**
+     * USER_ID 기준 keyset(seek) 페이지 조회
+     * OFFSET 없이 "USER_ID > :afterUserId ORDER BY USER_ID"로 PK 인덱스를 범위 탐색하므로
+     * 페이지 깊이와 무관하게 응답 시간이 일정합니다.
+     * 
+     * @param afterUserId 이전 페이지의 마지막 USER_ID (첫 페이지는 null)
+     * @param limit 조회할 최대 건수
+     * @param namePrefix 이름 접두어 필터 (선택)
+     * @param location 주소 일치 필터 (선택)
+     */
+    List<UserListItemView> findUserPage(String afterUserId, int limit, String namePrefix, String location);
+}
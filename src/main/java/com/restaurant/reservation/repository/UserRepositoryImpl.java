@@ -0,0 +1,119 @@
+package com.restaurant.reservation.repository;
+
+import com.restaurant.reservation.dto.view.UserListItemView;
+import com.restaurant.reservation.entity.PhoneNumber;
+import com.restaurant.reservation.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * UserRepositoryCustom 구현체
+ */
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Criteria 벌크 UPDATE 한 건으로 변경된 컬럼과 버전만 수정
+     * 
+     * 엔티티를 로드하지 않으므로 2차 캐시 상태와 무관하게 DB의 현재 버전으로 검사합니다.
+     * 벌크 UPDATE 후 Hibernate가 이 인스턴스의 User 캐시 영역을 비우며, 다른 인스턴스의 캐시는
+     * UserEntityCacheEvictor가 변경 이벤트로 비웁니다.
+     */
+    @Override
+    public int updateChangedColumns(String userId, long expectedVersion, String userName, PhoneNumber phoneNumber, String phoneKey, String userLocation) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<User> update = cb.createCriteriaUpdate(User.class);
+        Root<User> user = update.from(User.class);
+
+        // 변경된 컬럼만 SET 절에 포함
+        if (userName != null) {
+            update.set(user.<String>get("userName"), userName);
+        }
+        if (phoneNumber != null) {
+            update.set(user.<PhoneNumber>get("phoneNumber"), phoneNumber);
+            update.set(user.<String>get("phoneKey"), phoneKey);
+        }
+        if (userLocation != null) {
+            update.set(user.<String>get("userLocation"), userLocation);
+        }
+        update.set(user.<Long>get("version"), cb.sum(user.<Long>get("version"), 1L));
+        update.where(
+                cb.equal(user.get("userId"), userId),
+                cb.equal(user.get("version"), expectedVersion));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public Optional<User> findByPhoneKey(String phoneKey) {
+        if (phoneKey == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(phoneKey);
+    }
+
+    @Override
+    public List<User> findAllByUserIds(List<String> userIds) {
+        // 순서 보장 모드에서는 없는 사용자 자리에 null이 들어옴
+        List<User> users = entityManager.unwrap(Session.class)
+                .byMultipleIds(User.class)
+                .enableSessionCheck(true)
+                .enableOrderedReturn(true)
+                .multiLoad(userIds);
+        users.removeIf(Objects::isNull);
+        return users;
+    }
+
+    @Override
+    public boolean existsByPhoneKey(String phoneKey) {
+        return findByPhoneKey(phoneKey).isPresent();
+    }
+
+    @Override
+    public List<UserListItemView> findUserPage(String afterUserId, int limit, String namePrefix, String location) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserListItemView> query = cb.createQuery(UserListItemView.class);
+        Root<User> user = query.from(User.class);
+        query.select(cb.construct(UserListItemView.class,
+                user.get("userId"), user.get("userName"), user.get("phoneNumber"), user.get("userLocation")));
+
+        // 필터는 전달된 항목만 WHERE 절에 포함
+        List<Predicate> predicates = new ArrayList<>();
+        if (afterUserId != null) {
+            predicates.add(cb.greaterThan(user.get("userId"), afterUserId));
+        }
+        if (namePrefix != null) {
+            predicates.add(cb.like(user.get("userName"), escapeLike(namePrefix) + "%", '\\'));
+        }
+        if (location != null) {
+            predicates.add(cb.equal(user.get("userLocation"), location));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.asc(user.get("userId")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, limit)
+                .getResultList();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
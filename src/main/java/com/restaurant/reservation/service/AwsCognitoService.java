@@ -2,6 +2,8 @@ package com.restaurant.reservation.service;
 
 import com.restaurant.reservation.config.AwsCognitoConfig;
 import com.restaurant.reservation.config.JwtTokenUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.*;
@@ -36,13 +38,43 @@ public class AwsCognitoService {
     private final AwsCognitoConfig cognitoConfig;
     private final RestTemplate restTemplate;
     private final JwtTokenUtil jwtTokenUtil;
-    private final CognitoIdentityProviderClient cognitoClient;
+    private final MeterRegistry meterRegistry;
+    private volatile CognitoIdentityProviderClient cognitoClient;
     
-    public AwsCognitoService(AwsCognitoConfig cognitoConfig, JwtTokenUtil jwtTokenUtil) {
+    public AwsCognitoService(AwsCognitoConfig cognitoConfig, JwtTokenUtil jwtTokenUtil, MeterRegistry meterRegistry) {
         this.cognitoConfig = cognitoConfig;
         this.jwtTokenUtil = jwtTokenUtil;
+        this.meterRegistry = meterRegistry;
         this.restTemplate = new RestTemplate();
-        this.cognitoClient = CognitoIdentityProviderClient.builder().build();
+    }
+
+    /**
+     * Cognito Admin API 클라이언트 (첫 사용 시 생성)
+     * 회원가입 실패 시 사용자 삭제에만 사용하므로, 기동 시 AWS SDK 클래스 로딩과 리전/자격 증명 확인을 하지 않도록 지연 생성합니다.
+     */
+    private CognitoIdentityProviderClient cognitoClient() {
+        CognitoIdentityProviderClient client = cognitoClient;
+        if (client == null) {
+            synchronized (this) {
+                client = cognitoClient;
+                if (client == null) {
+                    client = CognitoIdentityProviderClient.builder().build();
+                    cognitoClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Cognito 호출 시간 타이머 (operation: token_exchange / admin_delete_user, outcome: success / failure)
+     */
+    private Timer cognitoTimer(String operation, String outcome) {
+        return Timer.builder("cognito.requests")
+                .description("AWS Cognito 호출 시간")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
     
     /**
@@ -64,6 +96,7 @@ public class AwsCognitoService {
      * 인증 코드로 액세스 토큰 교환
      */
     public Map<String, Object> exchangeCodeForToken(String authorizationCode) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             logger.info("=== 토큰 교환 시작 ===");
             logger.info("인증 코드: {}", authorizationCode);
@@ -100,6 +133,7 @@ public class AwsCognitoService {
                     tokenResponse.containsKey("access_token"), 
                     tokenResponse.containsKey("id_token"));
                 logger.info("=== 토큰 교환 성공 완료 ===");
+                sample.stop(cognitoTimer("token_exchange", "success"));
                 return tokenResponse;
             } else {
                 logger.error("토큰 교환 실패: status={}, body={}", response.getStatusCode(), response.getBody());
@@ -107,6 +141,7 @@ public class AwsCognitoService {
             }
             
         } catch (Exception e) {
+            sample.stop(cognitoTimer("token_exchange", "failure"));
             logger.error("=== 토큰 교환 중 오류 발생 ===");
             logger.error("예외 타입: {}", e.getClass().getSimpleName());
             logger.error("예외 메시지: {}", e.getMessage());
@@ -174,6 +209,7 @@ public class AwsCognitoService {
      * Cognito 사용자 삭제 (Admin API 사용)
      */
     public boolean deleteCognitoUser(String userId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             logger.info("=== Cognito 사용자 삭제 시작 ===");
             logger.info("삭제할 사용자 ID: {}", userId);
@@ -184,16 +220,19 @@ public class AwsCognitoService {
                     .username(userId)
                     .build();
             
-            AdminDeleteUserResponse deleteResponse = cognitoClient.adminDeleteUser(deleteRequest);
+            AdminDeleteUserResponse deleteResponse = cognitoClient().adminDeleteUser(deleteRequest);
             
             logger.info("Cognito 사용자 삭제 성공: userId={}", userId);
             logger.info("=== Cognito 사용자 삭제 완료 ===");
+            sample.stop(cognitoTimer("admin_delete_user", "success"));
             return true;
             
         } catch (CognitoIdentityProviderException e) {
+            sample.stop(cognitoTimer("admin_delete_user", "failure"));
             logger.error("Cognito 사용자 삭제 실패: userId={}, error={}", userId, e.awsErrorDetails().errorMessage());
             return false;
         } catch (Exception e) {
+            sample.stop(cognitoTimer("admin_delete_user", "failure"));
             logger.error("Cognito 사용자 삭제 중 예외 발생: userId={}", userId, e);
             return false;
         }
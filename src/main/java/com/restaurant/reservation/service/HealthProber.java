@@ -0,0 +1,192 @@
+package com.restaurant.reservation.service;
+
+import com.restaurant.reservation.config.AwsCognitoConfig;
+import com.restaurant.reservation.dto.view.HealthSnapshot;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 백그라운드 헬스 프로브
+ * 
+ * DB 연결, Cognito JWKS 응답, 커넥션 풀 포화 여부를 일정 주기로 확인하여 불변 스냅샷으로 보관합니다.
+ * /health 계열 엔드포인트는 스냅샷만 읽으므로 요청 스레드가 DB/외부 호출을 기다리지 않습니다.
+ * 
+ * DB가 느릴 때 프로브가 멈춰도 다른 @Scheduled 작업(아웃박스 릴레이 등)이 밀리지 않도록 전용 스레드에서 실행합니다.
+ * 프로브는 컨텍스트 초기화가 끝난 뒤(SmartLifecycle.start) 시작하므로, 빈 생성 중이나
+ * CDS 학습 실행(-Dspring.context.exit=onRefresh, 라이프사이클 시작 전 종료)에서는 DB/JWKS를 호출하지 않습니다.
+ */
+@Service
+public class HealthProber implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthProber.class);
+
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final HttpClient httpClient;
+    private final String jwksUrl;
+    private final int dbTimeoutSeconds;
+    private final Duration jwksTimeout;
+    private final double poolSaturationRatio;
+    private final long intervalMs;
+
+    private volatile ScheduledExecutorService executor;
+
+    private volatile HealthSnapshot snapshot = HealthSnapshot.INITIAL;
+
+    public HealthProber(DataSource dataSource,
+                        AwsCognitoConfig cognitoConfig,
+                        MeterRegistry meterRegistry,
+                        @Value("${health.probe.interval-ms:10000}") long intervalMs,
+                        @Value("${health.probe.db-timeout-seconds:3}") int dbTimeoutSeconds,
+                        @Value("${health.probe.jwks-timeout-ms:2000}") long jwksTimeoutMs,
+                        @Value("${health.probe.pool-saturation-ratio:0.9}") double poolSaturationRatio) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.jwksUrl = cognitoConfig.getJwksUrl();
+        this.intervalMs = intervalMs;
+        this.dbTimeoutSeconds = dbTimeoutSeconds;
+        this.jwksTimeout = Duration.ofMillis(jwksTimeoutMs);
+        this.poolSaturationRatio = poolSaturationRatio;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(jwksTimeout).build();
+
+        Gauge.builder("health.probe.age", this, prober -> {
+                    Long age = prober.snapshot.ageMillis(Instant.now());
+                    return age == null ? -1 : age / 1000.0;
+                })
+                .description("마지막 헬스 프로브 이후 경과 시간(초), 프로브 전 -1")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 스냅샷 (프로브 주기의 3배 이상 갱신되지 않았으면 DB/JWKS 상태를 UNKNOWN으로 반환)
+     */
+    public HealthSnapshot getSnapshot() {
+        HealthSnapshot current = snapshot;
+        Long age = current.ageMillis(Instant.now());
+        if (age != null && age > intervalMs * 3) {
+            return new HealthSnapshot(current.probedAt(), "UNKNOWN", "health probe stalled", current.databaseLatencyMs(),
+                    "UNKNOWN", "health probe stalled", current.pools());
+        }
+        return current;
+    }
+
+    private void probeSafely() {
+        try {
+            probe();
+        } catch (Exception e) {
+            // 예외가 전파되면 이후 스케줄이 중단되므로 여기서 처리
+            logger.error("헬스 프로브 실행 중 오류 발생", e);
+        }
+    }
+
+    void probe() {
+        String database;
+        String databaseError = null;
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            database = connection.isValid(dbTimeoutSeconds) ? "UP" : "DOWN";
+            if ("DOWN".equals(database)) {
+                databaseError = "connection validation timed out";
+            }
+        } catch (Exception e) {
+            database = "DOWN";
+            databaseError = e.getMessage();
+        }
+        long databaseLatencyMs = (System.nanoTime() - start) / 1_000_000;
+
+        String jwks;
+        String jwksError = null;
+        try {
+            HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(jwksUrl))
+                    .timeout(jwksTimeout)
+                    .GET()
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            jwks = response.statusCode() == 200 ? "UP" : "DOWN";
+            if (response.statusCode() != 200) {
+                jwksError = "HTTP " + response.statusCode();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            jwks = "DOWN";
+            jwksError = Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName());
+        }
+
+        HealthSnapshot previous = snapshot;
+        snapshot = new HealthSnapshot(Instant.now(), database, databaseError, databaseLatencyMs, jwks, jwksError, probePools());
+
+        if (!database.equals(previous.database()) || !jwks.equals(previous.jwks())) {
+            logger.info("헬스 상태 변경: database={}, jwks={}, databaseError={}, jwksError={}",
+                    database, jwks, databaseError, jwksError);
+        }
+    }
+
+    /**
+     * Hikari 풀 지표(hikaricp.connections.*)에서 풀별 사용 현황 계산
+     */
+    private List<HealthSnapshot.Pool> probePools() {
+        List<HealthSnapshot.Pool> pools = new ArrayList<>();
+        for (Gauge maxGauge : meterRegistry.find("hikaricp.connections.max").gauges()) {
+            String pool = maxGauge.getId().getTag("pool");
+            int max = (int) maxGauge.value();
+            int active = (int) poolGauge("hikaricp.connections.active", pool);
+            int idle = (int) poolGauge("hikaricp.connections.idle", pool);
+            int pending = (int) poolGauge("hikaricp.connections.pending", pool);
+            boolean saturated = pending > 0 || (max > 0 && active >= max * poolSaturationRatio);
+            pools.add(new HealthSnapshot.Pool(pool, active, idle, max, pending, saturated ? "SATURATED" : "OK"));
+        }
+        return List.copyOf(pools);
+    }
+
+    private double poolGauge(String name, String pool) {
+        Gauge gauge = meterRegistry.find(name).tag("pool", pool).gauge();
+        return gauge == null ? 0 : gauge.value();
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService started = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "health-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+        started.scheduleWithFixedDelay(this::probeSafely, 0, intervalMs, TimeUnit.MILLISECONDS);
+        executor = started;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current = executor;
+        if (current != null) {
+            current.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+}
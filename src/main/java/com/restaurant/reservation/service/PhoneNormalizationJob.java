@@ -0,0 +1,412 @@
+package com.restaurant.reservation.service;
+
+import com.restaurant.reservation.config.QueryLabel;
+import com.restaurant.reservation.dto.PhoneNormalizationStatusDto;
+import com.restaurant.reservation.entity.PhoneNumber;
+import com.restaurant.reservation.entity.User;
+import com.restaurant.reservation.util.PhoneNumberUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저장된 전화번호 재정규화 작업 (재시작 가능, 병렬 chunk 처리)
+ * 
+ * USERS를 USER_ID 순으로 chunk 단위로 나누어 작업 스레드 풀에서 병렬로 처리합니다.
+ * - PHONE_NUMBER를 현재 정규화 규칙으로 다시 계산하고 PHONE_KEY도 함께 갱신
+ *   ("+0" 수정 이전 데이터, 정규화되지 않은 과거 데이터, PHONE_KEY 백필)
+ * - 유효하지 않은 번호(예: 자동 생성 사용자의 000-0000-0000)는 변경하지 않고 건수만 집계
+ * - chunk마다 배치 UPDATE, 유니크 인덱스 충돌 시 행 단위로 재시도하고 충돌 행을 보고
+ * - 처리가 끝난 연속 구간의 마지막 USER_ID를 MAINTENANCE_CHECKPOINT에 기록하여 중단 시 이어서 실행
+ * - DB 작업은 세마포어로 동시 커넥션 수를 제한하여 서비스 트래픽용 커넥션을 남겨 둠
+ * 
+ * UPDATE는 읽은 값이 그대로일 때만 적용되므로(PHONE_NUMBER = 읽은 값) 사용자의 동시 수정을 덮어쓰지 않으며,
+ * 같은 구간을 다시 처리해도 결과가 같습니다.
+ * 
+ * 여러 인스턴스 중 하나만 실행하도록 MAINTENANCE_CHECKPOINT 행을 리스로 사용합니다.
+ * - 시작: STATUS가 RUNNING이 아니거나 lease-timeout-seconds 동안 갱신되지 않은(실행 인스턴스 종료) 경우에만
+ *   조건부 UPDATE로 RUNNING + OWNER(이 인스턴스)로 변경
+ * - 체크포인트 저장은 OWNER가 이 인스턴스일 때만 적용되며, 리스를 잃으면 작업을 중단
+ * - 상태 조회(status)는 이 인스턴스에서 실행한 작업만 보여 줌
+ * 
+ * UPDATE마다 VERSION을 증가시키므로 /me ETag(Primary 버전 조회)는 즉시 바뀝니다.
+ * 완료 후 User 2차 캐시와 이름 조회용 버전 캐시는 이 인스턴스만 비우며(변경 이벤트를 발행하지 않음),
+ * 다른 인스턴스에서는 application.conf의 만료 시간(10초)과 user-version-cache.ttl-seconds 이내에 반영됩니다.
+ */
+@Service
+public class PhoneNormalizationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PhoneNormalizationJob.class);
+
+    private static final String JOB_NAME = "phone-normalization";
+
+    // 하한이 없는 첫 chunk는 별도 SQL 사용 (Oracle은 빈 문자열을 NULL로 취급하므로 '' 하한을 쓸 수 없음)
+    private static final String FIRST_BOUNDARY_SQL =
+            "SELECT MAX(USER_ID) FROM (SELECT USER_ID FROM USERS ORDER BY USER_ID FETCH FIRST ? ROWS ONLY) b";
+    private static final String NEXT_BOUNDARY_SQL =
+            "SELECT MAX(USER_ID) FROM (SELECT USER_ID FROM USERS WHERE USER_ID > ? ORDER BY USER_ID FETCH FIRST ? ROWS ONLY) b";
+    private static final String SELECT_FIRST_CHUNK_SQL =
+            "SELECT USER_ID, PHONE_NUMBER, PHONE_KEY FROM USERS WHERE USER_ID <= ?";
+    private static final String SELECT_CHUNK_SQL =
+            "SELECT USER_ID, PHONE_NUMBER, PHONE_KEY FROM USERS WHERE USER_ID > ? AND USER_ID <= ?";
+    private static final String UPDATE_SQL =
+            "UPDATE USERS SET PHONE_NUMBER = ?, PHONE_KEY = ?, VERSION = VERSION + 1 " +
+            "WHERE USER_ID = ? AND PHONE_NUMBER = ?";
+    // 완료된 작업이거나 처음부터 다시 실행하는 경우 LAST_KEY를 비워 처음부터 시작
+    private static final String ACQUIRE_SQL =
+            "UPDATE MAINTENANCE_CHECKPOINT SET STATUS = 'RUNNING', OWNER = ?, UPDATED_AT = ?, " +
+            "LAST_KEY = CASE WHEN STATUS = 'COMPLETED' OR ? = 1 THEN NULL ELSE LAST_KEY END " +
+            "WHERE JOB_NAME = ? AND (STATUS <> 'RUNNING' OR UPDATED_AT < ?)";
+    private static final String INSERT_CHECKPOINT_SQL =
+            "INSERT INTO MAINTENANCE_CHECKPOINT (JOB_NAME, LAST_KEY, STATUS, UPDATED_AT, OWNER) VALUES (?, NULL, 'RUNNING', ?, ?)";
+    private static final String SELECT_CHECKPOINT_SQL =
+            "SELECT LAST_KEY FROM MAINTENANCE_CHECKPOINT WHERE JOB_NAME = ?";
+    private static final String UPDATE_CHECKPOINT_SQL =
+            "UPDATE MAINTENANCE_CHECKPOINT SET LAST_KEY = ?, STATUS = ?, UPDATED_AT = ? WHERE JOB_NAME = ? AND OWNER = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final UserVersionCache userVersionCache;
+    private final int chunkSize;
+    private final int workers;
+    private final int maxConnections;
+    private final int maxReportedConflicts;
+    private final long leaseTimeoutSeconds;
+    private final String owner;
+
+    // 이 인스턴스에서 실행 중인지 여부 (인스턴스 간 중복 실행은 DB 리스로 방지)
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile Run currentRun;
+
+    public PhoneNormalizationJob(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+                                 PlatformTransactionManager transactionManager, UserVersionCache userVersionCache,
+                                 @Value("${phone-normalization.chunk-size:1000}") int chunkSize,
+                                 @Value("${phone-normalization.workers:4}") int workers,
+                                 @Value("${phone-normalization.max-connections:2}") int maxConnections,
+                                 @Value("${phone-normalization.max-reported-conflicts:1000}") int maxReportedConflicts,
+                                 @Value("${phone-normalization.lease-timeout-seconds:300}") long leaseTimeoutSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userVersionCache = userVersionCache;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.workers = Math.max(workers, 1);
+        this.maxConnections = Math.max(maxConnections, 1);
+        this.maxReportedConflicts = maxReportedConflicts;
+        this.leaseTimeoutSeconds = leaseTimeoutSeconds;
+        this.owner = ownerId();
+    }
+
+    /**
+     * 백그라운드에서 작업 시작
+     * 
+     * @param restart true면 체크포인트를 무시하고 처음부터 실행
+     * @return 이 인스턴스 또는 다른 인스턴스에서 이미 실행 중이면 false
+     */
+    public boolean start(boolean restart) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        String resumeKey;
+        try {
+            if (!acquireLease(restart)) {
+                running.set(false);
+                logger.info("전화번호 재정규화가 다른 인스턴스에서 실행 중입니다.");
+                return false;
+            }
+            resumeKey = jdbcTemplate.queryForObject(SELECT_CHECKPOINT_SQL, String.class, JOB_NAME);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        Run run = new Run();
+        currentRun = run;
+        Thread coordinator = new Thread(() -> execute(run, resumeKey), "phone-normalization");
+        coordinator.setDaemon(true);
+        coordinator.start();
+        return true;
+    }
+
+    /**
+     * 현재(또는 마지막) 실행 상태, 실행한 적이 없으면 null
+     */
+    public PhoneNormalizationStatusDto status() {
+        Run run = currentRun;
+        return run != null ? run.toStatus(running.get()) : null;
+    }
+
+    private void execute(Run run, String resumeKey) {
+        long startNanos = System.nanoTime();
+        Semaphore connectionPermits = new Semaphore(maxConnections);
+        // 작업 큐가 가득 차면 조정 스레드가 직접 실행하여 경계 조회 속도를 늦춤
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers * 2), new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            // 체크포인트 키가 null이면 처음부터
+            String lowerKey = resumeKey;
+            run.resumedFromKey = lowerKey;
+            run.checkpointKey = lowerKey;
+            logger.info("전화번호 재정규화 시작: resumeFrom={}, chunkSize={}, workers={}, maxConnections={}",
+                    lowerKey, chunkSize, workers, maxConnections);
+
+            long sequence = 0;
+            while (run.error == null) {
+                String from = lowerKey;
+                String upperKey = withPermit(connectionPermits, () -> {
+                    try (QueryLabel.Scope ignored = QueryLabel.open("PhoneNormalization.boundary")) {
+                        return from == null
+                                ? jdbcTemplate.queryForObject(FIRST_BOUNDARY_SQL, String.class, chunkSize)
+                                : jdbcTemplate.queryForObject(NEXT_BOUNDARY_SQL, String.class, from, chunkSize);
+                    }
+                });
+                if (upperKey == null) {
+                    break;
+                }
+                Chunk chunk = new Chunk(sequence++, lowerKey, upperKey);
+                lowerKey = upperKey;
+                executor.execute(() -> processChunk(chunk, run, connectionPermits));
+            }
+
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            if (run.error != null) {
+                throw new IllegalStateException(run.error);
+            }
+
+            saveCheckpoint(run.checkpointKey, "COMPLETED");
+            logger.info("전화번호 재정규화 완료: scanned={}, updated={}, invalid={}, conflict={}, elapsedMs={}",
+                    run.scannedRows.get(), run.updatedRows.get(), run.invalidRows.get(), run.conflictRows.get(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        } catch (Exception e) {
+            run.error = e.getMessage();
+            executor.shutdownNow();
+            logger.error("전화번호 재정규화 중단 (다시 실행하면 체크포인트부터 재개): checkpoint='{}'", run.checkpointKey, e);
+            try {
+                saveCheckpoint(run.checkpointKey, "FAILED");
+            } catch (Exception checkpointError) {
+                logger.warn("체크포인트 저장 실패", checkpointError);
+            }
+        } finally {
+            run.elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            if (run.updatedRows.get() > 0) {
+                // JDBC로 직접 수정했으므로 User 2차 캐시와 ETag용 버전 캐시 제거 (이 인스턴스만, 클래스 설명 참고)
+                entityManagerFactory.getCache().evict(User.class);
+                userVersionCache.invalidateAll();
+            }
+            running.set(false);
+        }
+    }
+
+    /**
+     * chunk 하나 처리: 조회 -> 재정규화 -> 배치 UPDATE (충돌 시 행 단위 재시도) -> 체크포인트 전진
+     */
+    private void processChunk(Chunk chunk, Run run, Semaphore connectionPermits) {
+        if (run.error != null) {
+            return;
+        }
+        try {
+            withPermit(connectionPermits, () -> {
+                List<Object[]> updates = new ArrayList<>();
+                String sql = chunk.lowerKey() == null ? SELECT_FIRST_CHUNK_SQL : SELECT_CHUNK_SQL;
+                Object[] range = chunk.lowerKey() == null
+                        ? new Object[]{chunk.upperKey()}
+                        : new Object[]{chunk.lowerKey(), chunk.upperKey()};
+                try (QueryLabel.Scope ignored = QueryLabel.open("PhoneNormalization.scan")) {
+                    jdbcTemplate.query(sql, rs -> {
+                        run.scannedRows.incrementAndGet();
+                        String stored = rs.getString("PHONE_NUMBER");
+                        String normalized = renormalize(stored);
+                        String phoneKey = PhoneNumberUtil.toPhoneKey(normalized);
+                        if (phoneKey == null) {
+                            run.invalidRows.incrementAndGet();
+                            return;
+                        }
+                        if (!normalized.equals(stored) || !phoneKey.equals(rs.getString("PHONE_KEY"))) {
+                            updates.add(new Object[]{normalized, phoneKey, rs.getString("USER_ID"), stored});
+                        }
+                    }, range);
+                }
+                if (!updates.isEmpty()) {
+                    applyUpdates(updates, run);
+                }
+                return null;
+            });
+            run.complete(chunk, this);
+        } catch (Exception e) {
+            run.error = "chunk (" + chunk.lowerKey() + ", " + chunk.upperKey() + "] 처리 실패: " + e.getMessage();
+            logger.error("전화번호 재정규화 chunk 처리 실패: lowerKey={}, upperKey={}", chunk.lowerKey(), chunk.upperKey(), e);
+        }
+    }
+
+    /**
+     * 저장된 값을 현재 규칙으로 다시 정규화
+     * - "+0" 수정 이전에 저장된 +010... 형태는 normalizePhoneNumber가 처리
+     * - 국가번호 뒤에 국내 접두어 0이 남은 형태(+82 010 ...)는 0을 제거
+     */
+    private static String renormalize(String stored) {
+        if (stored == null) {
+            return null;
+        }
+        String value = stored.strip();
+        if (value.startsWith("+82")) {
+            int i = 3;
+            while (i < value.length() && (value.charAt(i) == ' ' || value.charAt(i) == '-')) {
+                i++;
+            }
+            if (i < value.length() && value.charAt(i) == '0') {
+                value = "+82 " + value.substring(i + 1);
+            }
+        }
+        return PhoneNumber.parse(PhoneNumberUtil.normalizePhoneNumber(value)).international();
+    }
+
+    private void applyUpdates(List<Object[]> updates, Run run) {
+        try (QueryLabel.Scope ignored = QueryLabel.open("PhoneNormalization.update")) {
+            try {
+                // 배치 중간에 실패하면 앞선 행까지 롤백한 뒤 행 단위로 재시도하도록 트랜잭션으로 묶음
+                int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, updates));
+                for (int count : counts) {
+                    // 드라이버가 건수를 알 수 없다고 응답하면(SUCCESS_NO_INFO) 1건으로 집계
+                    run.updatedRows.addAndGet(count >= 0 ? count : 1);
+                }
+            } catch (DataIntegrityViolationException e) {
+                logger.warn("배치 UPDATE 제약 조건 위반, 행 단위로 재시도: rows={}", updates.size());
+                for (Object[] args : updates) {
+                    try {
+                        run.updatedRows.addAndGet(jdbcTemplate.update(UPDATE_SQL, args));
+                    } catch (DataIntegrityViolationException conflict) {
+                        run.conflict((String) args[2], (String) args[0], (String) args[1], maxReportedConflicts);
+                        logger.warn("전화번호 키 중복으로 재정규화 제외: userId={}, phoneKey={}", args[2], args[1]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * MAINTENANCE_CHECKPOINT 행을 RUNNING + OWNER로 변경 (자동 커밋 UPDATE, 행이 없으면 INSERT)
+     * 
+     * @return 다른 인스턴스가 실행 중이면 false
+     */
+    private boolean acquireLease(boolean restart) {
+        Timestamp now = Timestamp.from(Instant.now());
+        Timestamp staleBefore = Timestamp.from(Instant.now().minusSeconds(leaseTimeoutSeconds));
+        try (QueryLabel.Scope ignored = QueryLabel.open("PhoneNormalization.lease")) {
+            if (jdbcTemplate.update(ACQUIRE_SQL, owner, now, restart ? 1 : 0, JOB_NAME, staleBefore) == 1) {
+                return true;
+            }
+            try {
+                return jdbcTemplate.update(INSERT_CHECKPOINT_SQL, JOB_NAME, now, owner) == 1;
+            } catch (DuplicateKeyException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 체크포인트 저장 (리스를 가진 경우에만, 실행 중에는 리스 갱신도 겸함)
+     * 
+     * @throws IllegalStateException 리스 만료로 다른 인스턴스가 작업을 넘겨받은 경우
+     */
+    private void saveCheckpoint(String lastKey, String status) {
+        Timestamp now = Timestamp.from(Instant.now());
+        try (QueryLabel.Scope ignored = QueryLabel.open("PhoneNormalization.checkpoint")) {
+            if (jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, lastKey, status, now, JOB_NAME, owner) == 0) {
+                throw new IllegalStateException("작업 리스를 다른 인스턴스가 넘겨받아 중단합니다: owner=" + owner);
+            }
+        }
+    }
+
+    private static String ownerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static <T> T withPermit(Semaphore permits, Callable<T> action) throws Exception {
+        permits.acquire();
+        try {
+            return action.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private record Chunk(long sequence, String lowerKey, String upperKey) {
+    }
+
+    /**
+     * 실행 하나의 진행 상태
+     * chunk는 순서와 무관하게 끝나므로, 앞선 chunk가 모두 끝난 구간까지만 체크포인트를 전진시킵니다.
+     */
+    private static final class Run {
+        private final AtomicLong scannedRows = new AtomicLong();
+        private final AtomicLong updatedRows = new AtomicLong();
+        private final AtomicLong invalidRows = new AtomicLong();
+        private final AtomicLong conflictRows = new AtomicLong();
+        private final List<PhoneNormalizationStatusDto.Conflict> conflicts =
+                Collections.synchronizedList(new ArrayList<>());
+        private final TreeMap<Long, String> completedOutOfOrder = new TreeMap<>();
+        private long nextSequence;
+        private volatile String resumedFromKey;
+        private volatile String checkpointKey;
+        private volatile String error;
+        private volatile long elapsedMillis;
+
+        void conflict(String userId, String phoneNumber, String phoneKey, int maxReported) {
+            conflictRows.incrementAndGet();
+            if (conflicts.size() < maxReported) {
+                conflicts.add(new PhoneNormalizationStatusDto.Conflict(userId, phoneNumber, phoneKey));
+            }
+        }
+
+        void complete(Chunk chunk, PhoneNormalizationJob job) {
+            String advancedTo = null;
+            synchronized (this) {
+                completedOutOfOrder.put(chunk.sequence(), chunk.upperKey());
+                while (!completedOutOfOrder.isEmpty() && completedOutOfOrder.firstKey() == nextSequence) {
+                    advancedTo = completedOutOfOrder.pollFirstEntry().getValue();
+                    nextSequence++;
+                }
+                if (advancedTo != null) {
+                    checkpointKey = advancedTo;
+                    job.saveCheckpoint(advancedTo, "RUNNING");
+                }
+            }
+        }
+
+        PhoneNormalizationStatusDto toStatus(boolean running) {
+            return new PhoneNormalizationStatusDto(running, resumedFromKey, checkpointKey,
+                    scannedRows.get(), updatedRows.get(), invalidRows.get(), conflictRows.get(),
+                    elapsedMillis, error, new ArrayList<>(conflicts));
+        }
+    }
+}
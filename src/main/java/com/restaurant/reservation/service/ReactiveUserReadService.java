@@ -0,0 +1,104 @@
+package com.restaurant.reservation.service;
+
+import com.restaurant.reservation.config.ReactiveReadProperties;
+import com.restaurant.reservation.dto.response.UserNameResponse;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 리액티브 사용자 조회 서비스 (R2DBC, 읽기 전용)
+ * 
+ * 조회가 진행되는 동안 요청 스레드를 점유하지 않으며, 결과는 R2DBC 드라이버의 이벤트 루프 스레드에서 전달됩니다.
+ * JPA 2차 캐시를 거치지 않고 항상 DB를 조회합니다.
+ * 
+ * 커넥션 풀은 빈으로 등록하지 않고 이 서비스가 직접 관리합니다.
+ * (ConnectionFactory 빈이 있으면 Spring Boot의 R2DBC 트랜잭션 매니저/스키마 초기화가 JPA 설정과 충돌)
+ */
+@Service
+@ConditionalOnProperty(prefix = "reactive-read", name = "enabled", havingValue = "true")
+public class ReactiveUserReadService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveUserReadService.class);
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveUserReadService(ReactiveReadProperties properties) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.getUrl());
+        if (properties.getUsername() != null) {
+            options = options.mutate()
+                    .option(ConnectionFactoryOptions.USER, properties.getUsername())
+                    .option(ConnectionFactoryOptions.PASSWORD, Objects.requireNonNullElse(properties.getPassword(), ""))
+                    .build();
+        }
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive-read-pool")
+                .initialSize(properties.getInitialSize())
+                .maxSize(properties.getMaxSize())
+                .maxAcquireTime(Duration.ofMillis(properties.getMaxAcquireTimeMs()))
+                .validationQuery("SELECT 1 FROM DUAL")
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        logger.info("리액티브 읽기 커넥션 풀 생성: driver={}, maxSize={}",
+                options.getValue(ConnectionFactoryOptions.DRIVER), properties.getMaxSize());
+    }
+
+    /**
+     * 사용자 이름 조회 (없으면 빈 Mono)
+     */
+    public Mono<String> getUserName(String userId) {
+        return databaseClient.sql("SELECT USER_NAME FROM USERS WHERE USER_ID = :userId")
+                .bind("userId", userId)
+                .map(row -> row.get("USER_NAME", String.class))
+                .one();
+    }
+
+    /**
+     * 여러 사용자 이름 일괄 조회 (요청 순서, 없는 사용자는 제외)
+     */
+    public Mono<List<UserNameResponse>> getUserNames(List<String> userIds) {
+        return databaseClient.sql("SELECT USER_ID, USER_NAME FROM USERS WHERE USER_ID IN (:userIds)")
+                .bind("userIds", userIds)
+                .map(row -> new UserNameResponse(row.get("USER_ID", String.class), row.get("USER_NAME", String.class)))
+                .all()
+                .collectMap(UserNameResponse::userId)
+                .map(found -> inRequestOrder(userIds, found));
+    }
+
+    /**
+     * 전체 사용자 수
+     */
+    public Mono<Long> getUserCount() {
+        // Oracle NUMBER / H2 BIGINT 모두 Number로 받아 변환
+        return databaseClient.sql("SELECT COUNT(*) FROM USERS")
+                .map(row -> row.get(0, Number.class).longValue())
+                .one();
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static List<UserNameResponse> inRequestOrder(List<String> userIds, Map<String, UserNameResponse> found) {
+        return userIds.stream()
+                .distinct()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,82 @@
+package com.restaurant.reservation.service;
+
+import com.restaurant.reservation.dto.BulkImportResultDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 사용자 일괄 등록 CLI 모드
+ * 
+ * user-import.file 이 지정된 경우에만 활성화되며, 등록이 끝나면 UserServiceApplication이
+ * SpringApplication.exit로 컨텍스트를 닫고 이 러너의 종료 코드로 프로세스를 종료합니다.
+ * 종료 코드: 0 = 모든 행 등록, 2 = 일부 행 거부 (거부 내역은 로그 참고)
+ * 
+ * 실행 예:
+ * java -jar app.jar --spring.profiles.active=prod --spring.main.web-application-type=none \
+ *      --user-import.file=/data/legacy-users.csv [--user-import.format=csv] [--user-import.batched=true]
+ */
+@Component
+@ConditionalOnProperty(prefix = "user-import", name = "file")
+public class UserBulkImportRunner implements CommandLineRunner, ExitCodeGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserBulkImportRunner.class);
+
+    private static final int LOGGED_REJECTS = 100;
+
+    static final int EXIT_REJECTED_ROWS = 2;
+
+    private final UserBulkImportService bulkImportService;
+    private final String file;
+    private final String format;
+    private final boolean batched;
+    private volatile int exitCode;
+
+    public UserBulkImportRunner(UserBulkImportService bulkImportService,
+                                @Value("${user-import.file}") String file,
+                                @Value("${user-import.format:}") String format,
+                                @Value("${user-import.batched:true}") boolean batched) {
+        this.bulkImportService = bulkImportService;
+        this.file = file;
+        this.format = format;
+        this.batched = batched;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        Path path = Path.of(file);
+        UserBulkImportService.Format importFormat = !format.isBlank()
+                ? UserBulkImportService.Format.from(format)
+                : path.getFileName().toString().toLowerCase().endsWith(".csv")
+                    ? UserBulkImportService.Format.CSV
+                    : UserBulkImportService.Format.NDJSON;
+
+        logger.info("CLI 사용자 일괄 등록: file={}, format={}, batched={}", path, importFormat, batched);
+        BulkImportResultDto result;
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            result = bulkImportService.importUsers(reader, importFormat, batched);
+        }
+
+        result.getRejects().stream().limit(LOGGED_REJECTS).forEach(reject ->
+                logger.warn("거부: line={}, userId={}, reason={}", reject.getLine(), reject.getUserId(), reject.getReason()));
+        logger.info("CLI 사용자 일괄 등록 결과: total={}, imported={}, rejected={}, elapsedMs={}, rowsPerSecond={}",
+                result.getTotalRows(), result.getImportedRows(), result.getRejectedRows(),
+                result.getElapsedMillis(), String.format("%.1f", result.getRowsPerSecond()));
+
+        exitCode = result.getRejectedRows() > 0 ? EXIT_REJECTED_ROWS : 0;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
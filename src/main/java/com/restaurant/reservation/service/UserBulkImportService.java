@@ -0,0 +1,372 @@
+package com.restaurant.reservation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.restaurant.reservation.config.QueryLabel;
+import com.restaurant.reservation.dto.BulkImportResultDto;
+import com.restaurant.reservation.dto.SignupRequestDto;
+import com.restaurant.reservation.entity.PhoneNumber;
+import com.restaurant.reservation.entity.User;
+import com.restaurant.reservation.event.UserChangedEvent;
+import com.restaurant.reservation.repository.UserRepository;
+import com.restaurant.reservation.util.PhoneNumberUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 사용자 일괄 등록 서비스 (레거시 시스템 마이그레이션용)
+ * 
+ * NDJSON 또는 CSV(헤더: userId,userName,phoneNumber,userLocation)를 한 줄씩 읽어
+ * chunk 단위로 처리합니다.
+ * - 전화번호 정규화/검증은 chunk 내에서 병렬 처리
+ * - 파일 내 중복과 DB 기존 데이터와의 중복을 모두 거부 처리
+ * - chunk마다 별도 트랜잭션에서 JDBC 배치 INSERT
+ * - 거부된 행은 줄 번호와 사유를 결과에 포함
+ * 
+ * batched=false로 호출하면 기존 회원가입과 같은 단건 save 경로를 사용하므로
+ * 같은 파일로 두 경로의 처리량(rows/s)을 비교할 수 있습니다.
+ */
+@Service
+public class UserBulkImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserBulkImportService.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO USERS (USER_ID, USER_NAME, PHONE_NUMBER, PHONE_KEY, USER_LOCATION, VERSION) VALUES (?, ?, ?, ?, ?, 0)";
+
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format from(String value) {
+            return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader ndjsonReader;
+    private final int chunkSize;
+    private final int maxReportedRejects;
+
+    public UserBulkImportService(UserRepository userRepository, JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${user-import.chunk-size:1000}") int chunkSize,
+                                 @Value("${user-import.max-reported-rejects:10000}") int maxReportedRejects) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.ndjsonReader = objectMapper.readerFor(SignupRequestDto.class);
+        // Oracle IN 목록 최대 1000개 제한
+        this.chunkSize = Math.min(Math.max(chunkSize, 1), 1000);
+        this.maxReportedRejects = maxReportedRejects;
+    }
+
+    /**
+     * 일괄 등록 실행
+     * 
+     * @param batched true면 JDBC 배치 INSERT, false면 단건 save (처리량 비교용)
+     */
+    public BulkImportResultDto importUsers(Reader source, Format format, boolean batched) throws IOException {
+        logger.info("사용자 일괄 등록 시작: format={}, batched={}, chunkSize={}", format, batched, chunkSize);
+        long startNanos = System.nanoTime();
+        ImportState state = new ImportState();
+
+        BufferedReader reader = new BufferedReader(source);
+        CsvHeader csvHeader = null;
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && csvHeader == null) {
+                csvHeader = CsvHeader.parse(line);
+                continue;
+            }
+
+            state.totalRows++;
+            try {
+                chunk.add(format == Format.CSV ? csvHeader.toRow(lineNumber, line) : parseNdjson(lineNumber, line));
+            } catch (Exception e) {
+                state.reject(lineNumber, null, "파싱 실패: " + e.getMessage());
+                continue;
+            }
+
+            if (chunk.size() >= chunkSize) {
+                processChunk(chunk, state, batched);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, state, batched);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        double rowsPerSecond = elapsedMillis > 0 ? state.importedRows * 1000.0 / elapsedMillis : state.importedRows;
+        logger.info("사용자 일괄 등록 완료: total={}, imported={}, rejected={}, elapsedMs={}, rowsPerSecond={}",
+                state.totalRows, state.importedRows, state.rejectedRows, elapsedMillis, String.format("%.1f", rowsPerSecond));
+
+        return new BulkImportResultDto(state.totalRows, state.importedRows, state.rejectedRows,
+                elapsedMillis, rowsPerSecond, state.rejects);
+    }
+
+    private ImportRow parseNdjson(long lineNumber, String line) throws IOException {
+        SignupRequestDto request = ndjsonReader.readValue(line);
+        return new ImportRow(lineNumber, request.getUserId(), request.getUserName(),
+                request.getPhoneNumber(), null, request.getUserLocation(), null);
+    }
+
+    private void processChunk(List<ImportRow> chunk, ImportState state, boolean batched) {
+        // 1. 정규화/검증 (병렬)
+        List<ImportRow> normalizedRows = chunk.parallelStream()
+                .map(UserBulkImportService::normalize)
+                .toList();
+
+        // 2. 파일 내 중복 제거
+        List<ImportRow> candidates = new ArrayList<>(normalizedRows.size());
+        for (ImportRow row : normalizedRows) {
+            if (row.rejectReason() != null) {
+                state.reject(row.line(), row.userId(), row.rejectReason());
+            } else if (!state.seenUserIds.add(row.userId())) {
+                state.reject(row.line(), row.userId(), "파일 내 중복 아이디");
+            } else if (!state.seenPhoneKeys.add(row.phoneKey())) {
+                state.reject(row.line(), row.userId(), "파일 내 중복 전화번호");
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        if (batched) {
+            insertBatch(candidates, state);
+        } else {
+            for (ImportRow row : candidates) {
+                insertSingle(row, state);
+            }
+        }
+    }
+
+    /**
+     * chunk 단위 트랜잭션: DB 중복 확인 후 JDBC 배치 INSERT
+     * 동시 가입 등으로 배치가 제약 조건에 걸리면 DB 중복으로 제외된 행을 뺀 나머지만 행 단위로 재시도
+     * DB 중복 거부는 트랜잭션이 끝난 뒤 한 번만 기록합니다.
+     */
+    private void insertBatch(List<ImportRow> candidates, ImportState state) {
+        AtomicReference<ExistingCheck> check = new AtomicReference<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                ExistingCheck result = excludeExisting(candidates);
+                check.set(result);
+                List<ImportRow> rows = result.insertable();
+                if (!rows.isEmpty()) {
+                    try (QueryLabel.Scope ignored = QueryLabel.open("UserBulkImport.insertBatch")) {
+                        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+                            ps.setString(1, row.userId());
+                            ps.setString(2, row.userName());
+                            ps.setString(3, row.phoneNumber());
+                            ps.setString(4, row.phoneKey());
+                            ps.setString(5, row.userLocation());
+                        });
+                    }
+                    rows.forEach(this::publishCreated);
+                }
+            });
+            rejectAll(check.get().excluded(), state);
+            state.importedRows += check.get().insertable().size();
+        } catch (DataIntegrityViolationException e) {
+            ExistingCheck result = check.get() != null ? check.get() : new ExistingCheck(candidates, List.of());
+            logger.warn("배치 INSERT 제약 조건 위반, 행 단위로 재시도: rows={}, excluded={}",
+                    result.insertable().size(), result.excluded().size());
+            rejectAll(result.excluded(), state);
+            for (ImportRow row : result.insertable()) {
+                insertSingle(row, state);
+            }
+        }
+    }
+
+    /**
+     * 행 단위 트랜잭션으로 단건 save (기존 회원가입 경로와 동일)
+     */
+    private void insertSingle(ImportRow row, ImportState state) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                User user = new User();
+                user.setUserId(row.userId());
+                user.setUserName(row.userName());
+                user.setPhoneNumber(PhoneNumber.ofStored(row.phoneNumber()));
+                user.setPhoneKey(row.phoneKey());
+                user.setUserLocation(row.userLocation());
+                userRepository.save(user);
+                publishCreated(row);
+            });
+            state.importedRows++;
+        } catch (DataIntegrityViolationException e) {
+            state.reject(row.line(), row.userId(), "이미 등록된 아이디 또는 전화번호");
+        }
+    }
+
+    private void publishCreated(ImportRow row) {
+        eventPublisher.publishEvent(UserChangedEvent.created(row.userId(), row.userName(), row.userLocation()));
+    }
+
+    private static void rejectAll(List<ImportRow> rows, ImportState state) {
+        for (ImportRow row : rows) {
+            state.reject(row.line(), row.userId(), row.rejectReason());
+        }
+    }
+
+    /**
+     * DB에 이미 있는 아이디/전화번호 키를 가진 행을 분리 (거부 사유는 rejectReason에 설정)
+     */
+    private ExistingCheck excludeExisting(List<ImportRow> candidates) {
+        Set<String> existingUserIds = new HashSet<>(userRepository.findExistingUserIds(
+                candidates.stream().map(ImportRow::userId).toList()));
+        Set<String> existingPhoneKeys = new HashSet<>(userRepository.findExistingPhoneKeys(
+                candidates.stream().map(ImportRow::phoneKey).toList()));
+
+        List<ImportRow> insertable = new ArrayList<>(candidates.size());
+        List<ImportRow> excluded = new ArrayList<>();
+        for (ImportRow row : candidates) {
+            if (existingUserIds.contains(row.userId())) {
+                excluded.add(row.rejected("이미 사용 중인 아이디"));
+            } else if (existingPhoneKeys.contains(row.phoneKey())) {
+                excluded.add(row.rejected("이미 등록된 전화번호"));
+            } else {
+                insertable.add(row);
+            }
+        }
+        return new ExistingCheck(insertable, excluded);
+    }
+
+    private static ImportRow normalize(ImportRow row) {
+        String userId = trimToNull(row.userId());
+        String userName = trimToNull(row.userName());
+        String userLocation = trimToNull(row.userLocation());
+
+        String rejectReason = null;
+        if (userId == null || userId.length() > 50) {
+            rejectReason = "아이디 누락 또는 50자 초과";
+        } else if (userName == null || userName.length() > 20) {
+            rejectReason = "이름 누락 또는 20자 초과";
+        } else if (userLocation != null && userLocation.length() > 50) {
+            rejectReason = "주소 50자 초과";
+        } else if (!PhoneNumberUtil.isValidPhoneNumber(row.phoneNumber())) {
+            rejectReason = "전화번호 형식 오류";
+        }
+
+        String phoneNumber = rejectReason == null ? PhoneNumberUtil.normalizePhoneNumber(row.phoneNumber()) : row.phoneNumber();
+        String phoneKey = rejectReason == null ? PhoneNumberUtil.toPhoneKey(row.phoneNumber()) : null;
+        return new ImportRow(row.line(), userId, userName, phoneNumber, phoneKey, userLocation, rejectReason);
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private record ImportRow(long line, String userId, String userName, String phoneNumber, String phoneKey,
+                             String userLocation, String rejectReason) {
+
+        ImportRow rejected(String reason) {
+            return new ImportRow(line, userId, userName, phoneNumber, phoneKey, userLocation, reason);
+        }
+    }
+
+    private record ExistingCheck(List<ImportRow> insertable, List<ImportRow> excluded) {
+    }
+
+    /**
+     * CSV 헤더 기반 컬럼 매핑 (큰따옴표로 감싼 값 내부의 쉼표 지원)
+     */
+    private record CsvHeader(int userIdIndex, int userNameIndex, int phoneNumberIndex, int userLocationIndex) {
+
+        static CsvHeader parse(String line) {
+            List<String> columns = split(line);
+            return new CsvHeader(
+                    columns.indexOf("userId"), columns.indexOf("userName"),
+                    columns.indexOf("phoneNumber"), columns.indexOf("userLocation"));
+        }
+
+        ImportRow toRow(long lineNumber, String line) {
+            List<String> values = split(line);
+            return new ImportRow(lineNumber, get(values, userIdIndex), get(values, userNameIndex),
+                    get(values, phoneNumberIndex), null, get(values, userLocationIndex), null);
+        }
+
+        private static String get(List<String> values, int index) {
+            return index >= 0 && index < values.size() ? values.get(index) : null;
+        }
+
+        private static List<String> split(String line) {
+            List<String> values = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(current.toString().trim());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            values.add(current.toString().trim());
+            return values;
+        }
+    }
+
+    private class ImportState {
+        private final Set<String> seenUserIds = new HashSet<>();
+        private final Set<String> seenPhoneKeys = new HashSet<>();
+        private final List<BulkImportResultDto.Reject> rejects = new ArrayList<>();
+        private long totalRows;
+        private long importedRows;
+        private long rejectedRows;
+
+        void reject(long line, String userId, String reason) {
+            rejectedRows++;
+            if (rejects.size() < maxReportedRejects) {
+                rejects.add(new BulkImportResultDto.Reject(line, userId, reason));
+            }
+        }
+    }
+}
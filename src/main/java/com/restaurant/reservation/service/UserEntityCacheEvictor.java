@@ -0,0 +1,66 @@
+package com.restaurant.reservation.service;
+
+import com.restaurant.reservation.entity.User;
+import com.restaurant.reservation.event.UserChangeFeedEvent;
+import com.restaurant.reservation.event.UserChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 사용자 변경 시 User 2차 캐시(user, user-phone-key 영역) 무효화
+ * 
+ * 2차 캐시는 인스턴스마다 독립된 인프로세스 캐시이므로 변경 이벤트로 각 인스턴스에서 직접 비웁니다.
+ * - 이 인스턴스의 변경: UserChangedEvent 커밋 이후
+ * - 다른 인스턴스의 변경: UserChangeFeedEvent (user-outbox.enabled=true인 경우, 피드 주기만큼 지연)
+ * 읽기 전용 조회는 replica에서 캐시를 채우므로, replica 복제 지연 동안 이전 값이 다시 적재될 수 있어
+ * replica-lag-ms 후 한 번 더 비웁니다.
+ * 아웃박스를 사용하지 않으면 다른 인스턴스의 변경은 application.conf의 만료 시간 이내에 반영됩니다.
+ */
+@Component
+public class UserEntityCacheEvictor {
+
+    private final Cache cache;
+    private final TaskScheduler taskScheduler;
+    private final Duration replicaLag;
+
+    public UserEntityCacheEvictor(EntityManagerFactory entityManagerFactory, TaskScheduler taskScheduler,
+                                  @Value("${user-cache.replica-lag-ms:3000}") long replicaLagMs) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.taskScheduler = taskScheduler;
+        this.replicaLag = Duration.ofMillis(replicaLagMs);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evictNowAndAfterReplicaLag(event.userId());
+    }
+
+    @EventListener
+    public void onUserChangeFeed(UserChangeFeedEvent event) {
+        evictNowAndAfterReplicaLag(event.change().userId());
+    }
+
+    private void evictNowAndAfterReplicaLag(String userId) {
+        evict(userId);
+        taskScheduler.schedule(() -> evict(userId), Instant.now().plus(replicaLag));
+    }
+
+    /**
+     * 사용자 엔티티와 전화번호 키 매핑 제거
+     * 전화번호 키 -> PK 매핑은 변경 전 키를 알 수 없으므로 영역 전체를 비웁니다. (전화번호 조회 시 다시 적재)
+     */
+    private void evict(String userId) {
+        cache.evictEntityData(User.class, userId);
+        cache.evictNaturalIdData(User.class);
+    }
+}
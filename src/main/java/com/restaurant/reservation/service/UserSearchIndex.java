@@ -0,0 +1,410 @@
+package com.restaurant.reservation.service;
+
+import com.restaurant.reservation.config.QueryLabel;
+import com.restaurant.reservation.dto.view.UserSearchHitView;
+import com.restaurant.reservation.event.UserChangeFeedEvent;
+import com.restaurant.reservation.event.UserChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 이름/주소 접두어 검색 인덱스 (인프로세스 역색인)
+ * 
+ * userName, userLocation을 소문자 단어로 나누어 정렬된 단어 사전(TreeMap)에 저장하고,
+ * 단어마다 문서 번호(int) 배열을 postings로 가집니다.
+ * - 검색어의 각 단어를 접두어로 갖는 사전 항목의 postings를 k-way 병합으로 합친 뒤, 단어 간에는 교집합
+ * - user-search.min-prefix-length보다 짧은 검색 단어는 접두어 확장 없이 같은 단어만 찾음
+ *   (한 글자 접두어가 사전 대부분을 합치는 것을 방지)
+ * - user-search.enabled=true 인 인스턴스에서만 생성 (기본 비활성, 관리자 검색용 인스턴스에만 켬)
+ * - 기동 시 USERS 전체를 읽기 전용 트랜잭션(Standby 라우팅)으로 스트리밍 조회하여 구축, 이후 이 인스턴스의 UserChangedEvent(커밋 후)와
+ *   다른 인스턴스의 변경(UserChangeFeedEvent)으로 갱신
+ * - user-search.rebuild-interval-ms마다 새 인덱스를 만들어 교체 (JDBC 직접 수정, 피드 미사용 시의 누락,
+ *   DB에서 삭제된 사용자 반영, 문서 번호 정리). 교체 전까지 이전 인덱스로 검색하므로 구축 중에는 메모리를 두 배로 사용
+ * - 문서 수는 user-search.max-documents로 제한 (초과분은 색인하지 않고 경고)
+ *   문서당 약 200바이트(한글 이름/주소 기준)이며 재구축 중에는 두 벌을 가지므로 힙 크기에 맞춰 설정
+ * 
+ * 지표: user.search.index.build(구축 시간), user.search.index.documents/terms/postings(크기),
+ * user.search.query(검색 시간)
+ */
+@Component
+@ConditionalOnProperty(prefix = "user-search", name = "enabled", havingValue = "true")
+public class UserSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchIndex.class);
+
+    private static final String SCAN_SQL = "SELECT USER_ID, USER_NAME, USER_LOCATION FROM USERS";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxDocuments;
+    private final int fetchSize;
+    private final int minPrefixLength;
+    private final Timer buildTimer;
+    private final Timer queryTimer;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 현재 검색에 사용하는 인덱스 (재구축 시 통째로 교체)
+    private IndexData index = new IndexData();
+    // 재구축 중 도착한 변경 (교체 직전에 새 인덱스에 다시 적용, 재구축 중이 아니면 null)
+    private List<UserSearchHitView> changesDuringRebuild;
+    private volatile boolean ready = false;
+
+    public UserSearchIndex(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${user-search.max-documents:100000}") int maxDocuments,
+                           @Value("${user-search.fetch-size:1000}") int fetchSize,
+                           @Value("${user-search.min-prefix-length:2}") int minPrefixLength) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxDocuments = maxDocuments;
+        this.fetchSize = Math.max(fetchSize, 1);
+        this.minPrefixLength = Math.max(minPrefixLength, 1);
+
+        this.buildTimer = Timer.builder("user.search.index.build")
+                .description("사용자 검색 인덱스 구축 시간")
+                .register(meterRegistry);
+        this.queryTimer = Timer.builder("user.search.query")
+                .description("사용자 검색 인덱스 조회 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("user.search.index.documents", this, search -> search.readLocked(() -> search.index.docIds.size()))
+                .description("색인된 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("user.search.index.terms", this, search -> search.readLocked(() -> search.index.dictionary.size()))
+                .description("단어 사전 크기")
+                .register(meterRegistry);
+        Gauge.builder("user.search.index.postings", this, search -> search.readLocked(() -> search.index.postingCount))
+                .description("전체 postings 수 (단어-사용자 쌍)")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 기동 완료 후 USERS 전체를 스트리밍 조회하여 인덱스 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    /**
+     * 주기적 재구축 - 새 인덱스를 만든 뒤 구축 중 도착한 변경을 다시 적용하고 교체
+     */
+    @Scheduled(initialDelayString = "${user-search.rebuild-interval-ms:600000}",
+               fixedDelayString = "${user-search.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        logger.info("사용자 검색 인덱스 구축 시작: maxDocuments={}", maxDocuments);
+        long startNanos = System.nanoTime();
+        writeLocked(() -> changesDuringRebuild = new ArrayList<>());
+
+        IndexData rebuilt = new IndexData();
+        JdbcTemplate streamingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streamingTemplate.setFetchSize(fetchSize);
+        // 읽기 전용 트랜잭션으로 조회하여 Standby로 라우팅 (Standby 사용 불가 시 Primary)
+        try (QueryLabel.Scope ignored = QueryLabel.open("UserSearchIndex.build")) {
+            readOnlyTransaction.executeWithoutResult(status -> streamingTemplate.query(SCAN_SQL, rs -> {
+                rebuilt.put(new UserSearchHitView(
+                        rs.getString("USER_ID"), rs.getString("USER_NAME"), rs.getString("USER_LOCATION")));
+            }));
+        } catch (RuntimeException e) {
+            writeLocked(() -> changesDuringRebuild = null);
+            logger.warn("사용자 검색 인덱스 구축 실패, 기존 인덱스 유지: error={}", e.getMessage());
+            return;
+        }
+
+        writeLocked(() -> {
+            // 구축 중 커밋된 변경이 스캔 결과보다 최신일 수 있으므로 도착 순서대로 다시 적용
+            changesDuringRebuild.forEach(rebuilt::put);
+            changesDuringRebuild = null;
+            index = rebuilt;
+        });
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        buildTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        ready = true;
+        logger.info("사용자 검색 인덱스 구축 완료: documents={}, terms={}, postings={}, elapsedMs={}",
+                rebuilt.docIds.size(), rebuilt.dictionary.size(), rebuilt.postingCount,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    /**
+     * 사용자 생성/수정 커밋 후 인덱스 갱신 (트랜잭션 없이 발행된 경우 즉시)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        apply(event);
+    }
+
+    /**
+     * 다른 인스턴스에서 커밋된 사용자 변경 반영 (이 인스턴스의 변경도 다시 오지만 같은 값이므로 무해)
+     */
+    @EventListener
+    public void onUserChangeFeed(UserChangeFeedEvent event) {
+        apply(event.change());
+    }
+
+    private void apply(UserChangedEvent event) {
+        UserSearchHitView document = new UserSearchHitView(event.userId(), event.userName(), event.userLocation());
+        writeLocked(() -> {
+            index.put(document);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(document);
+            }
+        });
+    }
+
+    /**
+     * 접두어 검색 (검색어의 모든 단어가 이름 또는 주소 단어의 접두어인 사용자, 색인된 순서)
+     * 
+     * @param query 검색어 (공백으로 구분된 단어)
+     * @param limit 최대 결과 수
+     */
+    public List<UserSearchHitView> search(String query, int limit) {
+        return queryTimer.record(() -> readLocked(() -> {
+            List<String> terms = tokenize(query);
+            if (terms.isEmpty()) {
+                return List.<UserSearchHitView>of();
+            }
+
+            IndexData current = index;
+            int[] matches = null;
+            for (String term : terms) {
+                int[] termMatches = term.length() < minPrefixLength ? current.exact(term) : current.prefixUnion(term);
+                matches = matches == null ? termMatches : intersect(matches, termMatches);
+                if (matches.length == 0) {
+                    return List.<UserSearchHitView>of();
+                }
+            }
+
+            List<UserSearchHitView> hits = new ArrayList<>(Math.min(matches.length, limit));
+            for (int i = 0; i < matches.length && hits.size() < limit; i++) {
+                hits.add(current.documents.get(matches[i]));
+            }
+            return hits;
+        }));
+    }
+
+    // ===== 내부 구현 =====
+
+    /**
+     * 단어 사전 + 문서 (재구축 시 새로 만들어 교체, 수정은 write lock 또는 교체 전 단일 스레드에서)
+     */
+    private final class IndexData {
+        // 단어 -> 문서 번호 postings
+        private final TreeMap<String, Postings> dictionary = new TreeMap<>();
+        // userId -> 문서 번호, 문서 번호 -> 저장된 값 (재구축 전까지 삭제 없이 재사용)
+        private final Map<String, Integer> docIds = new HashMap<>();
+        private final List<UserSearchHitView> documents = new ArrayList<>();
+        private long postingCount;
+
+        void put(UserSearchHitView document) {
+            Integer docId = docIds.get(document.userId());
+            if (docId == null) {
+                if (docIds.size() >= maxDocuments) {
+                    logger.warn("사용자 검색 인덱스 최대 문서 수 초과, 색인 제외: userId={}", document.userId());
+                    return;
+                }
+                docId = documents.size();
+                docIds.put(document.userId(), docId);
+                documents.add(document);
+            } else {
+                for (String term : termsOf(documents.get(docId))) {
+                    Postings postings = dictionary.get(term);
+                    if (postings != null && postings.remove(docId)) {
+                        postingCount--;
+                        if (postings.size == 0) {
+                            dictionary.remove(term);
+                        }
+                    }
+                }
+                documents.set(docId, document);
+            }
+
+            for (String term : termsOf(document)) {
+                if (dictionary.computeIfAbsent(term, key -> new Postings()).add(docId)) {
+                    postingCount++;
+                }
+            }
+        }
+
+        int[] exact(String term) {
+            Postings postings = dictionary.get(term);
+            return postings == null ? new int[0] : Arrays.copyOf(postings.docIds, postings.size);
+        }
+
+        /**
+         * 접두어에 해당하는 모든 postings의 합집합 (k-way 병합, O(N log k))
+         */
+        int[] prefixUnion(String prefix) {
+            SortedMap<String, Postings> range = dictionary.subMap(prefix, prefix + Character.MAX_VALUE);
+            if (range.isEmpty()) {
+                return new int[0];
+            }
+            if (range.size() == 1) {
+                Postings postings = range.values().iterator().next();
+                return Arrays.copyOf(postings.docIds, postings.size);
+            }
+
+            // 각 postings의 현재 위치를 (다음 문서 번호 기준) 우선순위 큐로 관리
+            PriorityQueue<int[]> heads = new PriorityQueue<>(range.size(), Comparator.comparingInt(head -> head[0]));
+            List<Postings> lists = new ArrayList<>(range.values());
+            int total = 0;
+            for (int i = 0; i < lists.size(); i++) {
+                Postings postings = lists.get(i);
+                total += postings.size;
+                heads.add(new int[] {postings.docIds[0], i, 0});
+            }
+
+            int[] union = new int[total];
+            int size = 0;
+            while (!heads.isEmpty()) {
+                int[] head = heads.poll();
+                if (size == 0 || union[size - 1] != head[0]) {
+                    union[size++] = head[0];
+                }
+                Postings postings = lists.get(head[1]);
+                int next = head[2] + 1;
+                if (next < postings.size) {
+                    head[0] = postings.docIds[next];
+                    head[2] = next;
+                    heads.add(head);
+                }
+            }
+            return size == union.length ? union : Arrays.copyOf(union, size);
+        }
+    }
+
+    private static List<String> termsOf(UserSearchHitView document) {
+        List<String> terms = tokenize(document.userName());
+        for (String term : tokenize(document.userLocation())) {
+            if (!terms.contains(term)) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 소문자 변환 후 문자/숫자가 아닌 문자를 기준으로 단어 분리
+     */
+    private static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String term = lower.substring(start, i);
+                if (!terms.contains(term)) {
+                    terms.add(term);
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[k++] = left[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    private <T> T readLocked(Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void writeLocked(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 정렬된 int 배열 postings (박싱 없음)
+     */
+    private static final class Postings {
+        private int[] docIds = new int[2];
+        private int size;
+
+        boolean add(int docId) {
+            int index = Arrays.binarySearch(docIds, 0, size, docId);
+            if (index >= 0) {
+                return false;
+            }
+            int insertAt = -index - 1;
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+            }
+            System.arraycopy(docIds, insertAt, docIds, insertAt + 1, size - insertAt);
+            docIds[insertAt] = docId;
+            size++;
+            return true;
+        }
+
+        boolean remove(int docId) {
+            int index = Arrays.binarySearch(docIds, 0, size, docId);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(docIds, index + 1, docIds, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
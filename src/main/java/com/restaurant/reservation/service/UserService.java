@@ -1,17 +1,31 @@
 package com.restaurant.reservation.service;
 
+import com.restaurant.reservation.dto.AvailabilityResponseDto;
+import com.restaurant.reservation.dto.UserPageDto;
+import com.restaurant.reservation.dto.UserUpdateRequestDto;
+import com.restaurant.reservation.dto.response.MyPageResponse;
+import com.restaurant.reservation.dto.response.UserNameResponse;
+import com.restaurant.reservation.dto.view.UserAvailabilityView;
+import com.restaurant.reservation.dto.view.UserListItemView;
+import com.restaurant.reservation.dto.view.UserNameView;
+import com.restaurant.reservation.dto.view.UserProfileView;
+import com.restaurant.reservation.entity.PhoneNumber;
 import com.restaurant.reservation.entity.User;
-import com.restaurant.reservation.entity.UserNameMapping;
+import com.restaurant.reservation.event.UserChangedEvent;
 import com.restaurant.reservation.repository.UserRepository;
 import com.restaurant.reservation.util.PhoneNumberUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Map;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
 
 /**
  * 사용자 서비스 클래스
@@ -33,24 +47,46 @@ public class UserService {
     
     // 로깅을 위한 Logger 인스턴스
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+    // 관리자 사용자 목록 페이지 크기 상한
+    private static final int MAX_PAGE_SIZE = 200;
     // 사용자 데이터 접근을 위한 Repository
     private final UserRepository userRepository;
+    // 사용자 변경 이벤트 발행 (검색 인덱스 등)
+    private final ApplicationEventPublisher eventPublisher;
     
 
     /**
      * 생성자 - 의존성 주입
      * @param userRepository 사용자 데이터 접근 객체
+     * @param eventPublisher 사용자 변경 이벤트 발행기
      */
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
 
+    @Transactional(readOnly = true)
     public String getUserName(String userId) {
         logger.info("username 서비스 진입");
-        UserNameMapping userName = userRepository.getUserNameByUserId(userId);
-        logger.info("username={}", userName.getUserName());
-        return userName.getUserName();
+        // 반복 조회는 ETag(304)로 처리되므로 여기서는 이름 프로젝션만 조회
+        String userName = userRepository.findNameViewByUserId(userId)
+                .map(UserNameView::userName)
+                .orElse(null);
+        logger.info("username={}", userName);
+        return userName;
+    }
+
+
+    /**
+     * 여러 사용자 이름 일괄 조회 (서비스 간 호출용)
+     * 2차 캐시에 있는 사용자는 DB 조회 없이 처리하며, 없는 사용자는 결과에서 제외
+     */
+    @Transactional(readOnly = true)
+    public List<UserNameResponse> getUserNames(List<String> userIds) {
+        return userRepository.findAllByUserIds(userIds).stream()
+                .map(user -> new UserNameResponse(user.getUserId(), user.getUserName()))
+                .toList();
     }
 
 
@@ -61,16 +97,17 @@ public class UserService {
         logger.info("회원가입 요청: userId={}, userName={}, phoneNumber={}", userId, userName, phoneNumber);
         
         // 전화번호 정규화
-        String normalizedPhoneNumber = PhoneNumberUtil.normalizePhoneNumber(phoneNumber);
+        PhoneNumber normalizedPhoneNumber = PhoneNumber.parse(phoneNumber);
         logger.info("전화번호 정규화: {} -> {}", phoneNumber, normalizedPhoneNumber);
         
         // 아이디 중복 확인
-        if (userRepository.existsById(userId)) {
+        if (userRepository.findById(userId).isPresent()) {
             throw new RuntimeException("이미 사용 중인 아이디입니다.");
         }
         
-        // 전화번호 중복 확인 (정규화된 번호로 확인)
-        if (userRepository.existsByPhoneNumber(normalizedPhoneNumber)) {
+        // 전화번호 중복 확인 (정규 키로 확인, 표시 형식 차이와 무관)
+        String phoneKey = PhoneNumberUtil.toPhoneKey(phoneNumber);
+        if (phoneKey != null && userRepository.existsByPhoneKey(phoneKey)) {
             throw new RuntimeException("이미 등록된 전화번호입니다.");
         }
         
@@ -79,9 +116,12 @@ public class UserService {
         user.setUserId(userId);
         user.setUserName(userName);
         user.setPhoneNumber(normalizedPhoneNumber);
+        user.setPhoneKey(phoneKey);
         user.setUserLocation(userLocation);
         
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(
+                savedUser.getUserId(), savedUser.getUserName(), savedUser.getUserLocation()));
         logger.info("회원가입 완료: userId={}", savedUser.getUserId());
         
         return savedUser;
@@ -92,7 +132,8 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public boolean isUserIdDuplicate(String userId) {
-        return userRepository.existsById(userId);
+        // existsById는 항상 COUNT 쿼리를 실행하므로 2차 캐시를 거치는 findById 사용
+        return userRepository.findById(userId).isPresent();
     }
     
     /**
@@ -100,50 +141,145 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public boolean isPhoneNumberDuplicate(String phoneNumber) {
-        return userRepository.existsByPhoneNumber(phoneNumber);
+        // 정규 키로 조회, 유효하지 않은 번호는 등록될 수 없으므로 중복 아님
+        String phoneKey = PhoneNumberUtil.toPhoneKey(phoneNumber);
+        return phoneKey != null && userRepository.existsByPhoneKey(phoneKey);
+    }
+
+    /**
+     * 아이디/전화번호 중복 여부를 단일 쿼리로 확인
+     * 전달되지 않은 항목은 null로 반환
+     */
+    @Transactional(readOnly = true)
+    public AvailabilityResponseDto checkAvailability(String userId, String phoneNumber) {
+        boolean hasUserId = userId != null && !userId.isEmpty();
+        boolean hasPhoneNumber = phoneNumber != null && !phoneNumber.trim().isEmpty();
+        String phoneKey = hasPhoneNumber ? PhoneNumberUtil.toPhoneKey(phoneNumber) : null;
+
+        boolean userIdDuplicate = false;
+        boolean phoneNumberDuplicate = false;
+        if (hasUserId || phoneKey != null) {
+            List<UserAvailabilityView> rows = userRepository.findAvailabilityByUserIdOrPhoneKey(
+                    hasUserId ? userId : null, phoneKey);
+            for (UserAvailabilityView row : rows) {
+                userIdDuplicate |= hasUserId && userId.equals(row.userId());
+                phoneNumberDuplicate |= phoneKey != null && phoneKey.equals(row.phoneKey());
+            }
+        }
+
+        return new AvailabilityResponseDto(
+                hasUserId ? userIdDuplicate : null,
+                hasPhoneNumber ? phoneNumberDuplicate : null);
     }
 
     /**
      * 전체 사용자 수 조회
      */
+    @Transactional(readOnly = true)
     public long getUserCount() {
         return userRepository.count();
     }
 
     /**
-     * 사용자 정보 수정
+     * 관리자 사용자 목록 조회 (USER_ID 기준 keyset 페이지네이션)
+     * 
+     * 커서는 마지막 USER_ID를 Base64url로 인코딩한 불투명 문자열이며,
+     * limit + 1건을 조회해 다음 페이지 존재 여부를 판단합니다.
+     * 
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
      */
-    public User updateUserInfo(String userId, java.util.Map<String, String> updateRequest) {
-        logger.info("사용자 정보 수정 요청: userId={}", userId);
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    @Transactional(readOnly = true)
+    public UserPageDto listUsers(String cursor, int limit, String namePrefix, String location) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        String afterUserId = decodeCursor(cursor);
+
+        List<UserListItemView> rows = userRepository.findUserPage(afterUserId, pageSize + 1,
+                trimToNull(namePrefix), trimToNull(location));
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = encodeCursor(rows.get(pageSize - 1).userId());
+        }
+        return new UserPageDto(rows, nextCursor);
+    }
+
+    private static String encodeCursor(String userId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(userId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /**
+     * 사용자 정보 부분 수정
+     * 
+     * 변경된 컬럼만 단일 UPDATE 문으로 수정하고 버전을 1 증가시킵니다.
+     * 전화번호 중복은 별도 조회 없이 유니크 제약 위반으로 판단합니다.
+     * 중복 확인은 전화번호 키(UX_USERS_PHONE_KEY)만 담당하므로, 키가 없는(유효하지 않은) 번호로는 변경할 수 없습니다.
+     * 
+     * @return 수정 후 사용자 정보 (새 버전 포함)
+     * @throws IllegalArgumentException 변경할 전화번호가 유효하지 않은 경우
+     * @throws ObjectOptimisticLockingFailureException 요청한 버전이 현재 버전과 다른 경우
+     */
+    public UserProfileView updateUserInfo(String userId, UserUpdateRequestDto updateRequest) {
+        logger.info("사용자 정보 수정 요청: userId={}, version={}", userId, updateRequest.getVersion());
         
-        // 업데이트할 필드들 처리
-        if (updateRequest.containsKey("userName")) {
-            user.setUserName(updateRequest.get("userName"));
+        PhoneNumber normalizedPhoneNumber = null;
+        String phoneKey = null;
+        if (updateRequest.getPhoneNumber() != null) {
+            // 전화번호 정규화 및 정규 키 생성
+            phoneKey = PhoneNumberUtil.toPhoneKey(updateRequest.getPhoneNumber());
+            if (phoneKey == null) {
+                throw new IllegalArgumentException("유효하지 않은 전화번호입니다.");
+            }
+            normalizedPhoneNumber = PhoneNumber.parse(updateRequest.getPhoneNumber());
+            logger.info("전화번호 정규화: {} -> {}", updateRequest.getPhoneNumber(), normalizedPhoneNumber);
         }
         
-        if (updateRequest.containsKey("phoneNumber")) {
-            String newPhoneNumber = updateRequest.get("phoneNumber");
-            // 전화번호 정규화
-            String normalizedPhoneNumber = PhoneNumberUtil.normalizePhoneNumber(newPhoneNumber);
-            logger.info("전화번호 정규화: {} -> {}", newPhoneNumber, normalizedPhoneNumber);
+        boolean hasChanges = updateRequest.getUserName() != null || normalizedPhoneNumber != null
+                || updateRequest.getUserLocation() != null;
+        if (hasChanges) {
+            long expectedVersion = updateRequest.getVersion() != null
+                    ? updateRequest.getVersion()
+                    : userRepository.findVersionByUserId(userId)
+                        .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            
+            int updatedRows;
+            try {
+                updatedRows = userRepository.updateChangedColumns(userId, expectedVersion,
+                        updateRequest.getUserName(), normalizedPhoneNumber, phoneKey, updateRequest.getUserLocation());
+            } catch (DataIntegrityViolationException e) {
+                throw new RuntimeException("이미 등록된 전화번호입니다.", e);
+            }
             
-            // 전화번호 중복 확인 (자신의 전화번호는 제외, 정규화된 번호로 확인)
-            if (!normalizedPhoneNumber.equals(user.getPhoneNumber()) && 
-                userRepository.existsByPhoneNumber(normalizedPhoneNumber)) {
-                throw new RuntimeException("이미 등록된 전화번호입니다.");
+            if (updatedRows == 0) {
+                if (!userRepository.existsById(userId)) {
+                    throw new RuntimeException("사용자를 찾을 수 없습니다.");
+                }
+                throw new ObjectOptimisticLockingFailureException(User.class, userId);
             }
-            user.setPhoneNumber(normalizedPhoneNumber);
         }
         
-        if (updateRequest.containsKey("userLocation")) {
-            user.setUserLocation(updateRequest.get("userLocation"));
+        UserProfileView updatedUser = userRepository.findProfileViewByUserId(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        if (hasChanges) {
+            eventPublisher.publishEvent(UserChangedEvent.updated(
+                    updatedUser.userId(), updatedUser.userName(), updatedUser.userLocation()));
         }
-        
-        User updatedUser = userRepository.save(user);
-        logger.info("사용자 정보 수정 완료: userId={}", updatedUser.getUserId());
+        logger.info("사용자 정보 수정 완료: userId={}, version={}", updatedUser.userId(), updatedUser.version());
         
         return updatedUser;
     }
@@ -154,63 +290,22 @@ public class UserService {
      * 사용자 정보만 제공 (MSA 원칙에 따라 단순화)
      */
     @Transactional(readOnly = true)
-    public Map<String, Object> getMyPage(String userId) {
+    public MyPageResponse getMyPage(String userId) {
         logger.info("통합 마이페이지 정보 조회: userId={}", userId);
-        
-        Map<String, Object> myPage = new HashMap<>();
-        
+
+        UserProfileView userInfo;
         try {
-            // 사용자 기본 정보만 제공
-            User user = userRepository.findById(userId).orElse(null);
-            Map<String, Object> userInfo = new HashMap<>();
-            if (user != null) {
-                userInfo.put("userId", user.getUserId());
-                userInfo.put("userName", user.getUserName() != null ? user.getUserName() : "정보 없음");
-                userInfo.put("phoneNumber", user.getPhoneNumber() != null ? user.getPhoneNumber() : "정보 없음");
-                userInfo.put("userLocation", user.getUserLocation() != null ? user.getUserLocation() : "정보 없음");
-            } else {
-                // 사용자가 없을 때 기본값 설정
-                userInfo.put("userId", userId);
-                userInfo.put("userName", "정보 없음");
-                userInfo.put("phoneNumber", "정보 없음");
-                userInfo.put("userLocation", "정보 없음");
-            }
-            myPage.put("userInfo", userInfo);
-            
+            // 엔티티 대신 프로필 프로젝션으로 조회 (다른 인스턴스의 수정이 바로 보이도록 2차 캐시 미사용), 사용자가 없으면 기본값
+            userInfo = userRepository.findProfileViewByUserId(userId)
+                    .map(UserProfileView::withDefaults)
+                    .orElseGet(() -> UserProfileView.placeholder(userId));
             logger.info("통합 마이페이지 정보 조회 완료: userId={}", userId);
-            return myPage;
-            
         } catch (Exception e) {
             logger.error("통합 마이페이지 정보 조회 중 오류 발생: userId={}, error={}", userId, e.getMessage());
             // 오류 발생 시 기본 정보만 반환
-            return getMyPageFallback(userId);
+            userInfo = UserProfileView.placeholder(userId);
         }
-    }
 
-
-    /**
-     * 통합 마이페이지 fallback (기본 정보만 반환)
-     */
-    private Map<String, Object> getMyPageFallback(String userId) {
-        User user = userRepository.findById(userId).orElse(null);
-        Map<String, Object> myPage = new HashMap<>();
-        
-        // 사용자 기본 정보만 반환
-        Map<String, Object> userInfo = new HashMap<>();
-        if (user != null) {
-            userInfo.put("userId", user.getUserId());
-            userInfo.put("userName", user.getUserName() != null ? user.getUserName() : "정보 없음");
-            userInfo.put("phoneNumber", user.getPhoneNumber() != null ? user.getPhoneNumber() : "정보 없음");
-            userInfo.put("userLocation", user.getUserLocation() != null ? user.getUserLocation() : "정보 없음");
-        } else {
-            // 사용자가 없을 때 기본값 설정
-            userInfo.put("userId", userId);
-            userInfo.put("userName", "정보 없음");
-            userInfo.put("phoneNumber", "정보 없음");
-            userInfo.put("userLocation", "정보 없음");
-        }
-        myPage.put("userInfo", userInfo);
-        
-        return myPage;
+        return new MyPageResponse(userInfo);
     }
 }
@@ -0,0 +1,87 @@
+package com.restaurant.reservation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.restaurant.reservation.event.UserChangeFeedEvent;
+import com.restaurant.reservation.event.UserChangedEvent;
+import com.restaurant.reservation.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 현재 버전(USERS.VERSION) - 조건부 GET(ETag/If-None-Match) 판단용
+ * 
+ * 본인 정보(/me)는 {@link #currentEtag(String)}로 매번 Primary에서 버전만 읽어 판단하므로,
+ * 다른 인스턴스에서 수정한 직후에도 이전 버전으로 304를 응답하지 않습니다.
+ * 
+ * 다른 서비스의 이름 조회(/{id}/name)는 {@link #etag(String)}의 인스턴스별 캐시를 사용하며,
+ * 캐시에 버전이 있으면 If-None-Match가 일치하는 요청은 DB 조회 없이 304로 응답합니다.
+ * - 이 인스턴스의 변경: UserChangedEvent 커밋 이후 즉시 무효화
+ * - 다른 인스턴스의 변경: UserChangeFeedEvent로 무효화 (user-outbox.feed-interval-ms 정도 지연)
+ * - 아웃박스를 사용하지 않거나 이벤트 없이 JDBC로 변경된 경우: TTL(user-version-cache.ttl-seconds)이
+ *   지날 때까지 이전 이름으로 304를 응답할 수 있음
+ */
+@Component
+public class UserVersionCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Long> versions;
+
+    public UserVersionCache(UserRepository userRepository, MeterRegistry meterRegistry,
+                            @Value("${user-version-cache.ttl-seconds:30}") long ttlSeconds,
+                            @Value("${user-version-cache.max-size:100000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, "user-version");
+    }
+
+    /**
+     * 캐시된 사용자 버전 기준 ETag (사용자가 없으면 null)
+     * 캐시에 없으면 트랜잭션 밖에서(Primary) 버전 컬럼만 조회해 적재합니다.
+     */
+    public String etag(String userId) {
+        Long version = versions.get(userId, id -> userRepository.findVersionByUserId(id).orElse(null));
+        return etag(userId, version);
+    }
+
+    /**
+     * 캐시를 거치지 않고 Primary에서 읽은 현재 버전 기준 ETag (사용자가 없으면 null)
+     * 같은 URL(/me)을 여러 사용자가 쓰므로 사용자 ID를 포함합니다.
+     */
+    public String currentEtag(String userId) {
+        Long version = userRepository.findVersionByUserId(userId).orElse(null);
+        return etag(userId, version);
+    }
+
+    public static String etag(String userId, Long version) {
+        return version != null ? "\"" + userId + "-" + version + "\"" : null;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        versions.invalidate(event.userId());
+    }
+
+    @EventListener
+    public void onUserChangeFeed(UserChangeFeedEvent event) {
+        versions.invalidate(event.change().userId());
+    }
+
+    /**
+     * JDBC로 여러 사용자를 직접 수정한 경우 전체 무효화
+     */
+    public void invalidateAll() {
+        versions.invalidateAll();
+    }
+}
@@ -0,0 +1,199 @@
+package com.restaurant.reservation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.reservation.config.CustomUserDetailsService;
+import com.restaurant.reservation.config.JwtTokenUtil;
+import com.restaurant.reservation.config.WarmUpProperties;
+import com.restaurant.reservation.dto.response.HealthResponse;
+import com.restaurant.reservation.dto.response.MyPageResponse;
+import com.restaurant.reservation.dto.response.UserCountResponse;
+import com.restaurant.reservation.dto.response.UserNameResponse;
+import com.restaurant.reservation.dto.view.UserListItemView;
+import com.restaurant.reservation.repository.UserRepository;
+import com.restaurant.reservation.util.PhoneNumberUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 기동 워밍업
+ * 
+ * 스케일 아웃 직후 첫 요청들이 인터프리터 모드 코드와 최소 커넥션(minimum-idle)으로 처리되어
+ * 지연이 튀는 것을 막기 위해, 트래픽을 받기 전에 다음을 수행합니다.
+ * - Primary 커넥션 풀을 warm-up.connections 개까지 채움
+ * - 기존 사용자 일부를 2차 캐시 / 버전 캐시에 적재
+ * - JWT 서명 검증(임시 키, JwtTokenUtil.warmUp), 인증 사용자 로드, 전화번호 정규화, 응답 직렬화를
+ *   합성 입력으로 반복 호출 (JIT 컴파일 유도)
+ * 
+ * Spring Boot는 ApplicationRunner가 모두 끝난 뒤 ReadinessState를 ACCEPTING_TRAFFIC으로 바꾸므로,
+ * 워밍업이 끝날 때까지 /health/elb는 DOWN입니다. 워밍업은 별도 스레드에서 실행하며 deadline이 지나면 중단합니다.
+ * 워밍업 실패는 기동 실패로 이어지지 않습니다.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnWebApplication
+@ConditionalOnProperty(prefix = "warm-up", name = "enabled", havingValue = "true")
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    // 정상 형식의 전화번호만 사용 (형식 오류 입력은 경고 로그를 남김)
+    private static final String[] PHONE_INPUTS = {
+            "010-1234-5678", "01012345678", "+82 10 1234 5678", "+821012345678", "010 9876 5432", "02-123-4567"
+    };
+
+    private final WarmUpProperties properties;
+    private final DataSource dataSource;
+    private final UserService userService;
+    private final UserRepository userRepository;
+    private final UserVersionCache userVersionCache;
+    private final CustomUserDetailsService userDetailsService;
+    private final JwtTokenUtil jwtTokenUtil;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public WarmUpRunner(WarmUpProperties properties, DataSource dataSource, UserService userService,
+                        UserRepository userRepository, UserVersionCache userVersionCache,
+                        CustomUserDetailsService userDetailsService, JwtTokenUtil jwtTokenUtil,
+                        ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.dataSource = dataSource;
+        this.userService = userService;
+        this.userRepository = userRepository;
+        this.userVersionCache = userVersionCache;
+        this.userDetailsService = userDetailsService;
+        this.jwtTokenUtil = jwtTokenUtil;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        logger.info("워밍업 시작: deadline={}s, iterations={}, connections={}",
+                properties.getDeadlineSeconds(), properties.getIterations(), properties.getConnections());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "warm-up"));
+        Future<?> future = executor.submit(() -> {
+            warmUp();
+            return null;
+        });
+
+        String outcome;
+        try {
+            future.get(properties.getDeadlineSeconds(), TimeUnit.SECONDS);
+            outcome = "completed";
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            outcome = "deadline_exceeded";
+        } catch (ExecutionException e) {
+            outcome = "failed";
+            logger.warn("워밍업 중 오류 발생, 트래픽 수신을 시작합니다", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            outcome = "interrupted";
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsedNanos = sample.stop(Timer.builder("app.warmup")
+                .description("기동 워밍업 소요 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+        logger.info("워밍업 종료: outcome={}, elapsedMs={}", outcome, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    private void warmUp() throws Exception {
+        fillConnectionPool();
+        List<String> userIds = primeCaches();
+        jwtTokenUtil.warmUp(properties.getIterations());
+
+        for (int i = 0; i < properties.getIterations(); i++) {
+            if (Thread.currentThread().isInterrupted()) {
+                logger.warn("워밍업 deadline 초과로 중단: iteration={}/{}", i, properties.getIterations());
+                return;
+            }
+            String phone = PHONE_INPUTS[i % PHONE_INPUTS.length];
+            PhoneNumberUtil.normalizePhoneNumber(phone);
+            PhoneNumberUtil.toPhoneKey(phone);
+            PhoneNumberUtil.isValidPhoneNumber(phone);
+
+            objectMapper.writeValueAsBytes(new UserCountResponse(i));
+            objectMapper.writeValueAsBytes(new HealthResponse("UP", "user-service", Instant.now().toString(),
+                    "8080", "2.0", "UP", null, "UP", null, (long) i));
+
+            if (!userIds.isEmpty()) {
+                String userId = userIds.get(i % userIds.size());
+                userDetailsService.loadUserByUsername(userId);
+                userVersionCache.etag(userId);
+                // 2차 캐시 조회 + 프로필 프로젝션 + 마이페이지 / 이름 응답 직렬화
+                userRepository.findById(userId);
+                userRepository.findProfileViewByUserId(userId).ifPresent(view -> {
+                    try {
+                        objectMapper.writeValueAsBytes(new MyPageResponse(view.withDefaults()));
+                        objectMapper.writeValueAsBytes(List.of(new UserNameResponse(view.userId(), view.userName())));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * 커넥션을 동시에 보유하여 풀이 minimum-idle 이상의 물리 커넥션을 미리 만들도록 함
+     */
+    private void fillConnectionPool() throws SQLException {
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < properties.getConnections(); i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                connection.isValid(1);
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+        logger.info("워밍업 커넥션 생성 완료: connections={}", connections.size());
+    }
+
+    /**
+     * 기존 사용자 일부를 2차 캐시 / 버전 캐시에 적재하고 워밍업에 사용할 사용자 ID 반환
+     */
+    private List<String> primeCaches() {
+        List<String> userIds = userService.listUsers(null, properties.getSampleUsers(), null, null).getUsers().stream()
+                .map(UserListItemView::userId)
+                .toList();
+        if (userIds.isEmpty()) {
+            logger.info("워밍업 대상 사용자가 없어 캐시 적재 / 사용자 로드 워밍업을 생략합니다");
+            return userIds;
+        }
+        userService.getUserNames(userIds);
+        userIds.forEach(userVersionCache::etag);
+        logger.info("워밍업 캐시 적재 완료: users={}", userIds.size());
+        return userIds;
+    }
+}
@@ -8,6 +8,9 @@ import org.slf4j.LoggerFactory;
  * 
  * 사용자가 다양한 형식으로 입력한 전화번호를 표준 형식으로 변환합니다.
  * 
+ * 정규식을 사용하지 않고 입력을 한 번만 훑어 구분 문자(공백, -, 괄호)를 제외한 문자를
+ * 작은 char 버퍼에 모은 뒤, 휴대폰/서울/기타 지역번호를 판별하여 결과 문자열을 한 번에 생성합니다.
+ * 
  * @author Team-FOG
  * @version 1.0
  * @since 2024-01-15
@@ -23,87 +26,85 @@ public class PhoneNumberUtil {
      * @return 정규화된 전화번호 (예: +82 10 1234 5678)
      */
     public static String normalizePhoneNumber(String phoneNumber) {
-        if (phoneNumber == null || phoneNumber.trim().isEmpty()) {
+        if (phoneNumber == null || isBlank(phoneNumber)) {
             return phoneNumber;
         }
         
         // +01, +02 등 잘못된 형식 자동 수정
+        int from = 0;
         if (phoneNumber.startsWith("+0")) {
             logger.info("잘못된 전화번호 형식 자동 수정: {} -> {}", phoneNumber, phoneNumber.substring(2));
-            phoneNumber = phoneNumber.substring(2);
+            from = 2;
         }
         
         // 공백과 특수문자 제거
-        String cleaned = phoneNumber.replaceAll("[\\s\\-\\(\\)]", "");
-        
-        // 이미 +82 형식인 경우 그대로 반환
-        if (cleaned.startsWith("+82")) {
-            return formatInternationalNumber(cleaned);
-        }
-        
-        // 82로 시작하는 경우 + 추가
-        if (cleaned.startsWith("82")) {
-            return formatInternationalNumber("+" + cleaned);
-        }
-        
-        // 0으로 시작하는 경우 +82로 변환
-        if (cleaned.startsWith("0")) {
-            return formatInternationalNumber("+82" + cleaned.substring(1));
-        }
+        char[] digits = new char[phoneNumber.length() - from];
+        int length = strip(phoneNumber, from, digits, true);
         
-        // 10자리 또는 11자리 숫자인 경우, 0으로 시작하지 않을 때만 0 추가
-        if (cleaned.length() == 10 || cleaned.length() == 11) {
-            // 이미 0으로 시작하는 경우는 그대로 처리
-            if (cleaned.startsWith("0")) {
-                return formatInternationalNumber("+82" + cleaned.substring(1));
+        // +82, 82, 0 접두어 다음부터가 국내 번호
+        int rest = nationalStart(digits, length);
+        if (rest < 0) {
+            // 접두어가 없으면 10자리 또는 11자리 숫자만 국내 번호로 처리
+            if (length != 10 && length != 11) {
+                // 형식에 맞지 않는 경우 원본 반환
+                String original = from == 0 ? phoneNumber : phoneNumber.substring(from);
+                logger.warn("전화번호 형식이 올바르지 않습니다: {}", original);
+                return original;
             }
-            // 0으로 시작하지 않는 경우에만 0 추가
-            cleaned = "0" + cleaned;
-            return formatInternationalNumber("+82" + cleaned.substring(1));
+            rest = 0;
         }
         
-        // 형식에 맞지 않는 경우 원본 반환
-        logger.warn("전화번호 형식이 올바르지 않습니다: {}", phoneNumber);
-        return phoneNumber;
+        return formatInternationalNumber(digits, rest, length);
     }
     
     /**
      * 국제 형식으로 포맷팅
      * 
-     * @param internationalNumber 국제 형식 전화번호 (예: +821012345678)
-     * @return 포맷된 전화번호 (예: +82 10 1234 5678)
+     * @param digits 구분 문자를 제거한 전화번호
+     * @param rest 국내 번호 시작 위치 (+82, 82, 0 접두어 다음)
+     * @param length digits 중 사용하는 길이
+     * @return 포맷된 전화번호 (예: +82 10 1234 5678), 국내 번호가 9자리 미만이면 공백 없이 +82 + 국내 번호
      */
-    private static String formatInternationalNumber(String internationalNumber) {
-        if (internationalNumber == null || internationalNumber.length() < 12) {
-            return internationalNumber;
+    private static String formatInternationalNumber(char[] digits, int rest, int length) {
+        int national = length - rest;
+        if (national < 9) {
+            char[] out = new char[3 + national];
+            out[0] = '+';
+            out[1] = '8';
+            out[2] = '2';
+            System.arraycopy(digits, rest, out, 3, national);
+            return new String(out);
         }
         
-        // +82 제거 후 나머지 부분 포맷팅
-        String numberPart = internationalNumber.substring(3);
+        // 휴대폰(10 xxxx xxxx)과 기타 지역번호(xx xxxx xxxx)는 앞 2자리, 서울(2 xxxx xxxx)은 앞 1자리
+        boolean mobile = digits[rest] == '1' && digits[rest + 1] == '0';
+        int areaLength = !mobile && digits[rest] == '2' ? 1 : 2;
         
-        if (numberPart.startsWith("10")) {
-            // 휴대폰 번호: 10 xxx xxxx
-            return "+82 " + numberPart.substring(0, 2) + " " + 
-                   numberPart.substring(2, 6) + " " + numberPart.substring(6);
-        } else if (numberPart.startsWith("2")) {
-            // 서울 지역번호: 2 xxx xxxx
-            return "+82 " + numberPart.substring(0, 1) + " " + 
-                   numberPart.substring(1, 5) + " " + numberPart.substring(5);
-        } else {
-            // 기타 지역번호: xx xxx xxxx
-            return "+82 " + numberPart.substring(0, 2) + " " + 
-                   numberPart.substring(2, 6) + " " + numberPart.substring(6);
+        char[] out = new char[4 + national + 2];
+        out[0] = '+';
+        out[1] = '8';
+        out[2] = '2';
+        out[3] = ' ';
+        int position = 4;
+        for (int i = 0; i < national; i++) {
+            if (i == areaLength || i == areaLength + 4) {
+                out[position++] = ' ';
+            }
+            out[position++] = digits[rest + i];
         }
+        return new String(out);
     }
     
     /**
      * 전화번호 유효성 검사
      * 
+     * 국내 번호(+82, 82, 0 접두어 제외)가 10 + 7~8자리, 2 + 7~8자리, [3-9]x + 7~8자리 숫자인 경우 유효
+     * 
      * @param phoneNumber 검사할 전화번호
      * @return 유효성 여부
      */
     public static boolean isValidPhoneNumber(String phoneNumber) {
-        if (phoneNumber == null || phoneNumber.trim().isEmpty()) {
+        if (phoneNumber == null || isBlank(phoneNumber)) {
             return false;
         }
         
@@ -114,33 +115,56 @@ public class PhoneNumberUtil {
         }
         
         // 공백과 특수문자 제거
-        String cleaned = phoneNumber.replaceAll("[\\s\\-\\(\\)]", "");
+        char[] digits = new char[phoneNumber.length()];
+        int length = strip(phoneNumber, 0, digits, true);
         
-        // +82 형식인 경우
-        if (cleaned.startsWith("+82")) {
-            cleaned = cleaned.substring(3);
+        return isValidNationalNumber(digits, Math.max(nationalStart(digits, length), 0), length);
+    }
+    
+    /**
+     * 전화번호 조회/중복 확인용 정규 키 (E.164 숫자만, 예: 821012345678)
+     * 
+     * 표시 형식(공백 위치 등)과 무관하게 같은 번호는 같은 키를 가지며,
+     * 유효하지 않은 번호는 null을 반환합니다.
+     * normalizePhoneNumber 결과에서 숫자만 남긴 값과 같습니다.
+     * 
+     * @param phoneNumber 입력된 전화번호 (임의 형식)
+     * @return 국가번호 포함 숫자 문자열 (최대 15자) 또는 null
+     */
+    public static String toPhoneKey(String phoneNumber) {
+        if (phoneNumber == null || isBlank(phoneNumber) || phoneNumber.startsWith("+0")) {
+            return null;
         }
-        // 82로 시작하는 경우
-        else if (cleaned.startsWith("82")) {
-            cleaned = cleaned.substring(2);
+        
+        char[] digits = new char[phoneNumber.length()];
+        int length = strip(phoneNumber, 0, digits, true);
+        int prefix = nationalStart(digits, length);
+        int rest = Math.max(prefix, 0);
+        if (!isValidNationalNumber(digits, rest, length)) {
+            return null;
         }
-        // 0으로 시작하는 경우
-        else if (cleaned.startsWith("0")) {
-            cleaned = cleaned.substring(1);
+        
+        // 접두어 없는 8~9자리 번호는 정규화되지 않고 원본 그대로 저장되므로 국가번호 없이 숫자만
+        int national = length - rest;
+        if (prefix < 0 && national < 10) {
+            return new String(digits, 0, length);
         }
         
-        // 한국 전화번호 패턴 검사
-        return cleaned.matches("^(10|2|3[0-9]|4[0-9]|5[0-9]|6[0-9]|7[0-9]|8[0-9]|9[0-9])\\d{7,8}$");
+        char[] key = new char[2 + national];
+        key[0] = '8';
+        key[1] = '2';
+        System.arraycopy(digits, rest, key, 2, national);
+        return new String(key);
     }
     
     /**
      * 전화번호를 한국 형식으로 변환 (표시용)
      * 
      * @param phoneNumber 국제 형식 전화번호 (예: +82 10 1234 5678)
-     * @return 한국 형식 전화번호 (예: 010-1234-5678)
+     * @return 한국 형식 전화번호 (예: 010-1234-5678), 자릿수가 부족하면 입력값 그대로
      */
     public static String toKoreanFormat(String phoneNumber) {
-        if (phoneNumber == null || phoneNumber.trim().isEmpty()) {
+        if (phoneNumber == null || isBlank(phoneNumber)) {
             return phoneNumber;
         }
         
@@ -149,29 +173,117 @@ public class PhoneNumberUtil {
             return phoneNumber;
         }
         
-        // 공백 제거
-        String cleaned = phoneNumber.replaceAll("\\s", "");
-        
-        // +82 제거
-        String numberPart = cleaned.substring(3);
+        // +82 이후 공백만 제거 (하이픈/괄호는 유지)
+        char[] national = new char[phoneNumber.length() - 3];
+        int length = strip(phoneNumber, 3, national, false);
         
-        if (numberPart.startsWith("10")) {
+        if (length >= 2 && national[0] == '1' && national[1] == '0') {
             // 휴대폰 번호: 010-xxxx-xxxx
-            return "010-" + numberPart.substring(2, 6) + "-" + numberPart.substring(6);
-        } else if (numberPart.startsWith("2")) {
+            return length < 6 ? phoneNumber : dashed("010", national, 2, 2, length);
+        } else if (length >= 1 && national[0] == '2') {
             // 서울 지역번호: 02-xxxx-xxxx
-            return "02-" + numberPart.substring(1, 5) + "-" + numberPart.substring(5);
+            return length < 5 ? phoneNumber : dashed("02", national, 1, 1, length);
+        } else if (length >= 1 && national[0] == '0') {
+            // 이미 0으로 시작하는 경우: 0xx-xxxx-xxxx
+            return length < 7 ? phoneNumber : dashed("", national, 0, 3, length);
         } else {
-            // 기타 지역번호: 이미 0으로 시작하는지 확인 후 처리
-            if (numberPart.startsWith("0")) {
-                // 이미 0으로 시작하는 경우: 0xx-xxxx-xxxx
-                return numberPart.substring(0, 3) + "-" + 
-                       numberPart.substring(3, 7) + "-" + numberPart.substring(7);
-            } else {
-                // 0으로 시작하지 않는 경우: 0xx-xxxx-xxxx
-                return "0" + numberPart.substring(0, 2) + "-" + 
-                       numberPart.substring(2, 6) + "-" + numberPart.substring(6);
+            // 0으로 시작하지 않는 경우: 0xx-xxxx-xxxx
+            return length < 6 ? phoneNumber : dashed("0", national, 0, 2, length);
+        }
+    }
+    
+    /**
+     * prefix + national[from, split) + "-" + national[split, split + 4) + "-" + national[split + 4, length)
+     */
+    private static String dashed(String prefix, char[] national, int from, int split, int length) {
+        char[] out = new char[prefix.length() + (split - from) + 1 + 4 + 1 + (length - split - 4)];
+        prefix.getChars(0, prefix.length(), out, 0);
+        int position = prefix.length();
+        System.arraycopy(national, from, out, position, split - from);
+        position += split - from;
+        out[position++] = '-';
+        System.arraycopy(national, split, out, position, 4);
+        position += 4;
+        out[position++] = '-';
+        System.arraycopy(national, split + 4, out, position, length - split - 4);
+        return new String(out);
+    }
+    
+    // ===== 단일 패스 파서 내부 구현 =====
+    
+    /**
+     * from 이후 문자 중 구분 문자를 제외하고 buffer에 복사
+     * 
+     * @param separators true면 공백류(\s)와 -, (, ) 제외, false면 공백류만 제외
+     * @return buffer에 복사한 문자 수
+     */
+    private static int strip(String phoneNumber, int from, char[] buffer, boolean separators) {
+        int length = 0;
+        for (int i = from; i < phoneNumber.length(); i++) {
+            char c = phoneNumber.charAt(i);
+            if (isWhitespace(c) || (separators && (c == '-' || c == '(' || c == ')'))) {
+                continue;
+            }
+            buffer[length++] = c;
+        }
+        return length;
+    }
+    
+    /**
+     * 국내 번호 시작 위치 (+82 -> 3, 82 -> 2, 0 -> 1), 접두어가 없으면 -1
+     */
+    private static int nationalStart(char[] digits, int length) {
+        if (length >= 3 && digits[0] == '+' && digits[1] == '8' && digits[2] == '2') {
+            return 3;
+        }
+        if (length >= 2 && digits[0] == '8' && digits[1] == '2') {
+            return 2;
+        }
+        if (length >= 1 && digits[0] == '0') {
+            return 1;
+        }
+        return -1;
+    }
+    
+    /**
+     * 국내 번호 패턴: 10 + 7~8자리, 2 + 7~8자리, [3-9][0-9] + 7~8자리
+     */
+    private static boolean isValidNationalNumber(char[] digits, int rest, int length) {
+        int national = length - rest;
+        if (national < 8) {
+            return false;
+        }
+        for (int i = rest; i < length; i++) {
+            if (digits[i] < '0' || digits[i] > '9') {
+                return false;
+            }
+        }
+        char first = digits[rest];
+        if (first == '2') {
+            return national == 8 || national == 9;
+        }
+        if (first == '1' && digits[rest + 1] != '0') {
+            return false;
+        }
+        return first != '0' && (national == 9 || national == 10);
+    }
+    
+    /**
+     * 정규식 \s와 같은 공백 문자 (스페이스, \t, \n, \x0B, \f, \r)
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+    
+    /**
+     * String.trim().isEmpty()와 같은 판정 (모든 문자가 '\u0020' 이하)
+     */
+    private static boolean isBlank(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
             }
         }
+        return true;
     }
 }
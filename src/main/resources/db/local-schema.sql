@@ -0,0 +1,47 @@
+-- =============================================================================
+-- local 프로필용 스키마 (H2, Oracle 호환 모드)
+-- Primary/Standby 두 개의 인메모리 DB를 같은 스키마로 초기화합니다.
+-- =============================================================================
+CREATE TABLE IF NOT EXISTS USERS (
+    USER_ID       VARCHAR2(50) NOT NULL PRIMARY KEY,
+    USER_NAME     VARCHAR2(20) NOT NULL,
+    PHONE_NUMBER  VARCHAR2(20) NOT NULL,
+    PHONE_KEY     VARCHAR2(15) UNIQUE,
+    USER_LOCATION VARCHAR2(50),
+    VERSION       NUMBER(19)   DEFAULT 0 NOT NULL
+);
+
+CREATE SEQUENCE IF NOT EXISTS USER_OUTBOX_SEQ;
+
+CREATE TABLE IF NOT EXISTS USER_OUTBOX (
+    ID            NUMBER(19)    NOT NULL PRIMARY KEY,
+    EVENT_TYPE    VARCHAR2(20)  NOT NULL,
+    USER_ID       VARCHAR2(50)  NOT NULL,
+    PAYLOAD       VARCHAR2(1000) NOT NULL,
+    CREATED_AT    TIMESTAMP     NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS IX_USER_OUTBOX_CREATED_AT ON USER_OUTBOX (CREATED_AT);
+
+CREATE TABLE IF NOT EXISTS USER_OUTBOX_OFFSET (
+    SINK_NAME     VARCHAR2(50)  NOT NULL PRIMARY KEY,
+    LAST_ID       NUMBER(19)    NOT NULL,
+    UPDATED_AT    TIMESTAMP     NOT NULL,
+    LEASE_OWNER   VARCHAR2(100),
+    LEASE_UNTIL   TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS USER_OUTBOX_DELIVERY (
+    SINK_NAME     VARCHAR2(50)  NOT NULL,
+    EVENT_ID      NUMBER(19)    NOT NULL,
+    DELIVERED_AT  TIMESTAMP     NOT NULL,
+    PRIMARY KEY (SINK_NAME, EVENT_ID)
+);
+
+CREATE TABLE IF NOT EXISTS MAINTENANCE_CHECKPOINT (
+    JOB_NAME      VARCHAR2(50)  NOT NULL PRIMARY KEY,
+    LAST_KEY      VARCHAR2(50),
+    STATUS        VARCHAR2(20)  NOT NULL,
+    UPDATED_AT    TIMESTAMP     NOT NULL,
+    OWNER         VARCHAR2(100)
+);
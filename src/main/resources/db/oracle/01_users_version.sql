@@ -0,0 +1,5 @@
+-- =============================================================================
+-- USERS 낙관적 잠금 버전 컬럼 추가 (운영 Oracle, ddl-auto: none 이므로 수동 적용)
+-- 기존 행은 버전 0으로 시작합니다.
+-- =============================================================================
+ALTER TABLE USERS ADD (VERSION NUMBER(19) DEFAULT 0 NOT NULL);
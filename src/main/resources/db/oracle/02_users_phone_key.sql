@@ -0,0 +1,14 @@
+-- =============================================================================
+-- USERS 전화번호 정규 키 컬럼 추가 (운영 Oracle, ddl-auto: none 이므로 수동 적용)
+-- PHONE_KEY: E.164 숫자만 (예: 821012345678), 유효하지 않은 번호는 NULL
+-- Oracle B-tree 인덱스는 전체가 NULL인 키를 저장하지 않으므로 NULL 행은 인덱스에 포함되지 않습니다.
+--
+-- 적용 순서
+--   1. 이 스크립트 실행 (컬럼 + 유니크 인덱스)
+--   2. 애플리케이션 배포
+--   3. POST /api/admin/maintenance/phone-normalization 으로 기존 행 백필 (전화번호 재정규화 포함)
+--   4. 03_users_drop_phone_number_unique.sql 실행
+-- =============================================================================
+ALTER TABLE USERS ADD (PHONE_KEY VARCHAR2(15));
+
+CREATE UNIQUE INDEX UX_USERS_PHONE_KEY ON USERS (PHONE_KEY) ONLINE;
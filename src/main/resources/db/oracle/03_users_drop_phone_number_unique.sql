@@ -0,0 +1,6 @@
+-- =============================================================================
+-- PHONE_NUMBER 유니크 제약 제거 (전화번호 키 백필 완료 후 실행)
+-- 중복 확인은 UX_USERS_PHONE_KEY가 담당하므로 표시용 문자열 인덱스는 더 이상 필요하지 않습니다.
+-- 백필 결과의 conflictRows가 0이 아니면 해당 행을 먼저 정리한 뒤 실행하세요.
+-- =============================================================================
+ALTER TABLE USERS DROP UNIQUE (PHONE_NUMBER) DROP INDEX;
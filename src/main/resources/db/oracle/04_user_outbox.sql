@@ -0,0 +1,23 @@
+-- =============================================================================
+-- 사용자 변경 이벤트 아웃박스 (운영 Oracle, ddl-auto: none 이므로 수동 적용)
+-- USER_OUTBOX: 사용자 변경과 같은 트랜잭션에서 기록되는 이벤트
+-- USER_OUTBOX_OFFSET: sink별 전달 위치 (리스/전달 기록은 06_user_outbox_delivery.sql)
+-- 적용 후 USER_OUTBOX_ENABLED=true 로 배포합니다.
+-- =============================================================================
+CREATE SEQUENCE USER_OUTBOX_SEQ CACHE 100;
+
+CREATE TABLE USER_OUTBOX (
+    ID          NUMBER(19)     NOT NULL,
+    EVENT_TYPE  VARCHAR2(20)   NOT NULL,
+    USER_ID     VARCHAR2(50)   NOT NULL,
+    PAYLOAD     VARCHAR2(1000) NOT NULL,
+    CREATED_AT  TIMESTAMP      NOT NULL,
+    CONSTRAINT PK_USER_OUTBOX PRIMARY KEY (ID)
+);
+
+CREATE TABLE USER_OUTBOX_OFFSET (
+    SINK_NAME   VARCHAR2(50)   NOT NULL,
+    LAST_ID     NUMBER(19)     NOT NULL,
+    UPDATED_AT  TIMESTAMP      NOT NULL,
+    CONSTRAINT PK_USER_OUTBOX_OFFSET PRIMARY KEY (SINK_NAME)
+);
@@ -0,0 +1,13 @@
+-- =============================================================================
+-- 유지보수 작업 체크포인트 (운영 Oracle, ddl-auto: none 이므로 수동 적용)
+-- JOB_NAME: 작업 이름 (예: phone-normalization)
+-- LAST_KEY: 처리가 끝난 마지막 키, 작업이 중단되면 이 키 다음부터 재개
+-- STATUS: RUNNING / COMPLETED / FAILED
+-- =============================================================================
+CREATE TABLE MAINTENANCE_CHECKPOINT (
+    JOB_NAME    VARCHAR2(50)   NOT NULL,
+    LAST_KEY    VARCHAR2(50),
+    STATUS      VARCHAR2(20)   NOT NULL,
+    UPDATED_AT  TIMESTAMP      NOT NULL,
+    CONSTRAINT PK_MAINTENANCE_CHECKPOINT PRIMARY KEY (JOB_NAME)
+);
@@ -0,0 +1,18 @@
+-- =============================================================================
+-- 아웃박스 릴레이 전달 기록 / 리스 (운영 Oracle, ddl-auto: none 이므로 수동 적용, 04 이후)
+-- USER_OUTBOX_OFFSET.LAST_ID: 이 ID 이하의 이벤트는 모두 전달됨 (low-water mark)
+-- USER_OUTBOX_OFFSET.LEASE_OWNER/LEASE_UNTIL: sink별 릴레이 담당 인스턴스와 리스 만료 시각
+-- USER_OUTBOX_DELIVERY: LAST_ID보다 큰 ID 중 전달이 끝난 이벤트
+--   (시퀀스 순서와 커밋 순서가 달라 늦게 커밋된 이벤트도 건너뛰지 않도록 ID별로 기록)
+-- =============================================================================
+ALTER TABLE USER_OUTBOX_OFFSET ADD (
+    LEASE_OWNER VARCHAR2(100),
+    LEASE_UNTIL TIMESTAMP
+);
+
+CREATE TABLE USER_OUTBOX_DELIVERY (
+    SINK_NAME     VARCHAR2(50)  NOT NULL,
+    EVENT_ID      NUMBER(19)    NOT NULL,
+    DELIVERED_AT  TIMESTAMP     NOT NULL,
+    CONSTRAINT PK_USER_OUTBOX_DELIVERY PRIMARY KEY (SINK_NAME, EVENT_ID)
+);
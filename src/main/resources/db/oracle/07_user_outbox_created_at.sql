@@ -0,0 +1,5 @@
+-- =============================================================================
+-- 아웃박스 CREATED_AT 인덱스 (운영 Oracle, ddl-auto: none 이므로 수동 적용, 04 이후)
+-- 인스턴스별 변경 피드(최근 몇 초 범위 조회)와 보관 기간 정리(PURGE)에서 사용합니다.
+-- =============================================================================
+CREATE INDEX IX_USER_OUTBOX_CREATED_AT ON USER_OUTBOX (CREATED_AT) ONLINE;
@@ -0,0 +1,6 @@
+-- =============================================================================
+-- 유지보수 작업 리스 (운영 Oracle, ddl-auto: none 이므로 수동 적용, 05 이후)
+-- OWNER: 작업을 실행 중인 인스턴스 (호스트명/임의 ID)
+--   STATUS = RUNNING 인 행은 OWNER만 갱신할 수 있으며, UPDATED_AT이 오래되면 다른 인스턴스가 넘겨받습니다.
+-- =============================================================================
+ALTER TABLE MAINTENANCE_CHECKPOINT ADD (OWNER VARCHAR2(100));
@@ -0,0 +1,73 @@
+package com.restaurant.reservation.config;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.time.Instant;
+
+import static com.restaurant.reservation.config.TestJwks.claims;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenUtilTest {
+
+    static final TestJwks jwks = new TestJwks();
+    static final KeyPair otherKey = TestJwks.generateKeyPair();
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    JwtTokenUtil jwtTokenUtil = jwks.jwtTokenUtil(meterRegistry);
+
+    @Test
+    @DisplayName("JWKS 키로 서명한 토큰은 유효")
+    void acceptsSignedToken() {
+        assertThat(jwtTokenUtil.validateToken(jwks.sign(claims("user-1")))).isTrue();
+        assertThat(count("valid")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("alg=none 위조 토큰은 클레임이 맞아도 거부")
+    void rejectsUnsignedToken() {
+        assertThat(jwtTokenUtil.validateToken(TestJwks.unsigned("attacker"))).isFalse();
+        assertThat(jwtTokenUtil.validateToken(claims("attacker").withKeyId(TestJwks.KID).sign(Algorithm.none()))).isFalse();
+        assertThat(count("invalid_signature")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 kid라도 다른 키로 서명한 토큰은 거부")
+    void rejectsTokenSignedWithOtherKey() {
+        assertThat(jwtTokenUtil.validateToken(TestJwks.sign(claims("user-1"), TestJwks.KID, otherKey))).isFalse();
+        assertThat(count("invalid_signature")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JWKS에 없는 kid는 거부")
+    void rejectsUnknownKey() {
+        assertThat(jwtTokenUtil.validateToken(TestJwks.sign(claims("user-1"), "unknown", otherKey))).isFalse();
+        assertThat(count("unknown_key")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서명이 맞아도 발급자/대상/만료/토큰 타입이 틀리면 거부")
+    void rejectsInvalidClaims() {
+        assertThat(jwtTokenUtil.validateToken(jwks.sign(claims("user-1").withIssuer("https://example.com")))).isFalse();
+        assertThat(jwtTokenUtil.validateToken(jwks.sign(claims("user-1").withAudience("other-client")))).isFalse();
+        assertThat(jwtTokenUtil.validateToken(jwks.sign(claims("user-1").withExpiresAt(Instant.now().minusSeconds(60))))).isFalse();
+        assertThat(jwtTokenUtil.validateToken(jwks.sign(claims("user-1").withClaim("token_use", "refresh")))).isFalse();
+        assertThat(count("valid")).isZero();
+    }
+
+    @Test
+    @DisplayName("워밍업은 임시 키로 검증 경로를 실행하고, 검증 타이머와 운영 JWKS에 영향이 없음")
+    void warmUpUsesEphemeralKey() throws Exception {
+        assertThat(jwtTokenUtil.warmUp(50)).isEqualTo(50);
+        assertThat(meterRegistry.get("auth.jwt.validation").timers())
+                .allSatisfy(timer -> assertThat(timer.count()).isZero());
+        assertThat(jwtTokenUtil.validateToken(TestJwks.sign(claims("user-1"), "warm-up", otherKey))).isFalse();
+    }
+
+    private long count(String outcome) {
+        return meterRegistry.get("auth.jwt.validation").tag("outcome", outcome).timer().count();
+    }
+}
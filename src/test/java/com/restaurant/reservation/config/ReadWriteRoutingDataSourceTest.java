@@ -0,0 +1,131 @@
+package com.restaurant.reservation.config;
+
+import com.restaurant.reservation.support.LocalSchemaDatabase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Primary/Standby를 각각 H2 인메모리 DB로 띄워 실제 커넥션이 어느 쪽으로 라우팅되는지 확인합니다.
+ * 두 DB에 같은 USER_ID로 이름만 다른 행을 넣고 조회 결과로 라우팅 대상을 판별합니다.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String SELECT_NAME_SQL = "SELECT USER_NAME FROM USERS WHERE USER_ID = 'marker'";
+
+    private LocalSchemaDatabase primary;
+    private LocalSchemaDatabase standby;
+    private DriverManagerDataSource primaryDataSource;
+    private DriverManagerDataSource replicaDataSource;
+    private ReplicaHealthMonitor replicaHealthMonitor;
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        standby = database("standby");
+        primaryDataSource = primary.dataSource();
+        replicaDataSource = standby.dataSource();
+        meterRegistry = new SimpleMeterRegistry();
+        replicaHealthMonitor = new ReplicaHealthMonitor(replicaDataSource, new ReplicaDataSourceProperties(), meterRegistry);
+
+        ReadWriteRoutingDataSource routingDataSource =
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaHealthMonitor, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        standby.close();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 Standby, 쓰기 트랜잭션과 트랜잭션 밖 조회는 Primary")
+    void routesByTransactionReadOnlyFlag() {
+        replicaHealthMonitor.check();
+
+        assertThat(selectName(readOnlyTransaction)).isEqualTo("standby");
+        assertThat(selectName(readWriteTransaction)).isEqualTo("primary");
+        assertThat(selectName()).isEqualTo("primary");
+
+        assertThat(routedCount(ReadWriteRoutingDataSource.REPLICA)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션의 변경은 Primary에만 반영")
+    void writesGoToPrimary() {
+        replicaHealthMonitor.check();
+
+        readWriteTransaction.executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE USERS SET USER_NAME = 'updated' WHERE USER_ID = 'marker'"));
+
+        assertThat(new JdbcTemplate(primaryDataSource).queryForObject(SELECT_NAME_SQL, String.class)).isEqualTo("updated");
+        assertThat(new JdbcTemplate(replicaDataSource).queryForObject(SELECT_NAME_SQL, String.class)).isEqualTo("standby");
+    }
+
+    @Test
+    @DisplayName("Standby 상태 확인 전에는 읽기 전용 트랜잭션도 Primary")
+    void readOnlyUsesPrimaryUntilReplicaIsHealthy() {
+        assertThat(selectName(readOnlyTransaction)).isEqualTo("primary");
+
+        replicaHealthMonitor.check();
+        assertThat(selectName(readOnlyTransaction)).isEqualTo("standby");
+    }
+
+    @Test
+    @DisplayName("Standby 연결 실패 시 Primary로 대체하고 다음 상태 확인 전까지 Primary 유지")
+    void fallsBackToPrimaryWhenReplicaConnectionFails() {
+        replicaHealthMonitor.check();
+        replicaDataSource.setUrl("jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+
+        assertThat(selectName(readOnlyTransaction)).isEqualTo("primary");
+        assertThat(replicaHealthMonitor.isAvailable()).isFalse();
+        assertThat(meterRegistry.counter("datasource.routing.fallback").count()).isEqualTo(1);
+
+        replicaDataSource.setUrl(standby.url());
+        assertThat(selectName(readOnlyTransaction)).isEqualTo("primary");
+        replicaHealthMonitor.check();
+        assertThat(selectName(readOnlyTransaction)).isEqualTo("standby");
+    }
+
+    private String selectName() {
+        return jdbcTemplate.queryForObject(SELECT_NAME_SQL, String.class);
+    }
+
+    private String selectName(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> selectName());
+    }
+
+    private double routedCount(String pool) {
+        return meterRegistry.counter("datasource.routing.connections", "pool", pool).count();
+    }
+
+    private static LocalSchemaDatabase database(String name) {
+        LocalSchemaDatabase database = LocalSchemaDatabase.create(name);
+        database.jdbcTemplate().update(
+                "INSERT INTO USERS (USER_ID, USER_NAME, PHONE_NUMBER) VALUES ('marker', ?, '+82 10-0000-0000')", name);
+        return database;
+    }
+}
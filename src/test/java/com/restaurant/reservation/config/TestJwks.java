@@ -0,0 +1,120 @@
+package com.restaurant.reservation.config;
+
+import com.auth0.jwk.Jwk;
+import com.auth0.jwk.JwkProvider;
+import com.auth0.jwk.SigningKeyNotFoundException;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.algorithms.Algorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테스트용 JWKS / 토큰 생성기
+ * 
+ * 임시 RSA 키 하나를 가진 JwkProvider로 JwtTokenUtil을 만들고, 그 키로 서명한 Cognito 형식 토큰을 발급합니다.
+ */
+public final class TestJwks {
+
+    public static final String KID = "test-key";
+    public static final String REGION = "ap-northeast-2";
+    public static final String USER_POOL_ID = "test-pool";
+    public static final String CLIENT_ID = "test-client";
+    public static final String ISSUER = "https://cognito-idp." + REGION + ".amazonaws.com/" + USER_POOL_ID;
+
+    private final KeyPair keyPair;
+
+    public TestJwks() {
+        this.keyPair = generateKeyPair();
+    }
+
+    public static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 이 키 하나만 JWKS에 있는 JwtTokenUtil
+     */
+    public JwtTokenUtil jwtTokenUtil(MeterRegistry meterRegistry) {
+        return new JwtTokenUtil(cognitoConfig(), meterRegistry, jwkProvider());
+    }
+
+    public JwkProvider jwkProvider() {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        Jwk jwk = Jwk.fromValues(Map.of("kid", KID, "kty", "RSA", "alg", "RS256", "use", "sig",
+                "n", base64Url(publicKey.getModulus()), "e", base64Url(publicKey.getPublicExponent())));
+        return keyId -> {
+            if (!KID.equals(keyId)) {
+                throw new SigningKeyNotFoundException("No key found for kid " + keyId, null);
+            }
+            return jwk;
+        };
+    }
+
+    public static AwsCognitoConfig cognitoConfig() {
+        AwsCognitoConfig config = new AwsCognitoConfig();
+        config.setRegion(REGION);
+        config.setUserPoolId(USER_POOL_ID);
+        config.setClientId(CLIENT_ID);
+        return config;
+    }
+
+    /**
+     * 검증 규칙을 통과하는 ID 토큰 클레임 (cognito:groups=admin)
+     */
+    public static JWTCreator.Builder claims(String subject) {
+        return JWT.create()
+                .withSubject(subject)
+                .withIssuer(ISSUER)
+                .withAudience(CLIENT_ID)
+                .withClaim("token_use", "id")
+                .withClaim("cognito:groups", List.of("admin"))
+                .withExpiresAt(Instant.now().plus(1, ChronoUnit.HOURS));
+    }
+
+    public String sign(JWTCreator.Builder claims) {
+        return sign(claims, KID, keyPair);
+    }
+
+    public static String sign(JWTCreator.Builder claims, String kid, KeyPair keyPair) {
+        return claims.withKeyId(kid)
+                .sign(Algorithm.RSA256((RSAPublicKey) keyPair.getPublic(), (RSAPrivateKey) keyPair.getPrivate()));
+    }
+
+    /**
+     * 서명 없는(alg=none) 위조 토큰 - 클레임은 모두 유효
+     */
+    public static String unsigned(String subject) {
+        String header = base64Url("{\"alg\":\"none\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = base64Url(("{\"sub\":\"" + subject + "\",\"token_use\":\"id\",\"iss\":\"" + ISSUER + "\","
+                + "\"aud\":\"" + CLIENT_ID + "\",\"exp\":" + Instant.now().plus(1, ChronoUnit.HOURS).getEpochSecond()
+                + ",\"cognito:groups\":[\"admin\"]}").getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".";
+    }
+
+    private static String base64Url(BigInteger value) {
+        return base64Url(value.toByteArray());
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,152 @@
+package com.restaurant.reservation.controller;
+
+import com.restaurant.reservation.config.AwsCognitoConfig;
+import com.restaurant.reservation.dto.response.MyPageResponse;
+import com.restaurant.reservation.dto.view.UserProfileView;
+import com.restaurant.reservation.event.UserChangedEvent;
+import com.restaurant.reservation.repository.UserRepository;
+import com.restaurant.reservation.service.AwsCognitoService;
+import com.restaurant.reservation.service.UserService;
+import com.restaurant.reservation.service.UserVersionCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조건부 GET(ETag/If-None-Match) - /api/users/{id}/name, /api/users/me
+ */
+class UserControllerConditionalGetTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserService userService = mock(UserService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UserVersionCache userVersionCache;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        userVersionCache = new UserVersionCache(userRepository, meterRegistry, 30, 100);
+        UserController controller = new UserController(userService, mock(AwsCognitoService.class),
+                mock(AwsCognitoConfig.class), mock(UserDetailsService.class), userVersionCache, meterRegistry);
+        // 애플리케이션과 같이 문자열 응답은 UTF-8
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(new StringHttpMessageConverter(StandardCharsets.UTF_8),
+                        new MappingJackson2HttpMessageConverter())
+                .build();
+
+        when(userRepository.findVersionByUserId("user1")).thenReturn(Optional.of(1L));
+        when(userService.getUserName("user1")).thenReturn("홍길동");
+        when(userService.getMyPage("user1")).thenAnswer(invocation -> new MyPageResponse(new UserProfileView(
+                "user1", "홍길동", null, "서울", userRepository.findVersionByUserId("user1").orElseThrow())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("이름 조회: 200 + ETag 이후 같은 ETag면 본문 없는 304, 캐시된 버전으로 DB 조회 없음")
+    void nameNotModified() throws Exception {
+        mockMvc.perform(get("/api/users/user1/name"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"user1-1\""))
+                .andExpect(content().string("홍길동"));
+
+        mockMvc.perform(get("/api/users/user1/name").header("If-None-Match", "\"user1-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"user1-1\""))
+                .andExpect(content().string(""));
+
+        // 두 번째 요청은 캐시된 버전으로 판단 (버전/이름 모두 다시 조회하지 않음)
+        verify(userRepository, times(1)).findVersionByUserId("user1");
+        verify(userService, times(1)).getUserName("user1");
+        assertThat(conditionalGetCount("name", "full")).isEqualTo(1);
+        assertThat(conditionalGetCount("name", "not_modified")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이름 조회: 수정 이벤트 후에는 이전 ETag로 요청해도 새 ETag와 본문으로 200")
+    void nameChangedAfterUpdate() throws Exception {
+        mockMvc.perform(get("/api/users/user1/name"))
+                .andExpect(header().string("ETag", "\"user1-1\""));
+
+        when(userRepository.findVersionByUserId("user1")).thenReturn(Optional.of(2L));
+        when(userService.getUserName("user1")).thenReturn("홍길순");
+        userVersionCache.onUserChanged(UserChangedEvent.updated("user1", "홍길순", "서울"));
+
+        mockMvc.perform(get("/api/users/user1/name").header("If-None-Match", "\"user1-1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"user1-2\""))
+                .andExpect(content().string("홍길순"));
+        assertThat(conditionalGetCount("name", "full")).isEqualTo(2);
+        assertThat(conditionalGetCount("name", "not_modified")).isZero();
+    }
+
+    @Test
+    @DisplayName("/me: 200 + ETag 이후 같은 ETag면 프로필 조회 없이 본문 없는 304")
+    void meNotModified() throws Exception {
+        authenticate("user1");
+
+        mockMvc.perform(get("/api/users/me"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"user1-1\""));
+
+        mockMvc.perform(get("/api/users/me").header("If-None-Match", "\"user1-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"user1-1\""))
+                .andExpect(content().string(""));
+
+        verify(userService, times(1)).getMyPage("user1");
+        assertThat(conditionalGetCount("me", "full")).isEqualTo(1);
+        assertThat(conditionalGetCount("me", "not_modified")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("/me: 다른 인스턴스에서 수정되면(이벤트 없음) 이전 ETag 요청에 새 ETag로 200")
+    void meChangedOnOtherInstance() throws Exception {
+        authenticate("user1");
+        mockMvc.perform(get("/api/users/me"))
+                .andExpect(header().string("ETag", "\"user1-1\""));
+
+        when(userRepository.findVersionByUserId("user1")).thenReturn(Optional.of(2L));
+
+        mockMvc.perform(get("/api/users/me").header("If-None-Match", "\"user1-1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"user1-2\""));
+        assertThat(conditionalGetCount("me", "full")).isEqualTo(2);
+        assertThat(conditionalGetCount("me", "not_modified")).isZero();
+    }
+
+    private void authenticate(String userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+
+    private double conditionalGetCount(String endpoint, String result) {
+        return meterRegistry.counter("user.conditional.get", "endpoint", endpoint, "result", result).count();
+    }
+}
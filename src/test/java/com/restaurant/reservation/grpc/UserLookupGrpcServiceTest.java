@@ -0,0 +1,183 @@
+package com.restaurant.reservation.grpc;
+
+import com.restaurant.reservation.config.GrpcServerProperties;
+import com.restaurant.reservation.config.TestJwks;
+import com.restaurant.reservation.dto.response.UserNameResponse;
+import com.restaurant.reservation.grpc.v1.BatchGetUsersRequest;
+import com.restaurant.reservation.grpc.v1.GetUserNameRequest;
+import com.restaurant.reservation.grpc.v1.GetUserNameResponse;
+import com.restaurant.reservation.grpc.v1.UserLookupGrpc;
+import com.restaurant.reservation.grpc.v1.UserName;
+import com.restaurant.reservation.grpc.v1.ValidateTokenRequest;
+import com.restaurant.reservation.grpc.v1.ValidateTokenResponse;
+import com.restaurant.reservation.service.UserService;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * UserLookupGrpcService 인프로세스 서버 테스트 (실제 gRPC 직렬화/스트리밍/취소 경로)
+ */
+class UserLookupGrpcServiceTest {
+
+    static final TestJwks jwks = new TestJwks();
+
+    UserService userService = mock(UserService.class);
+    GrpcServerProperties properties = new GrpcServerProperties();
+    Server server;
+    ManagedChannel channel;
+    UserLookupGrpc.UserLookupBlockingStub stub;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        properties.setBatchChunkSize(2);
+        properties.setMaxBatchSize(10);
+        UserLookupGrpcService service = new UserLookupGrpcService(userService,
+                jwks.jwtTokenUtil(new SimpleMeterRegistry()), properties);
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).addService(service).build().start();
+        channel = InProcessChannelBuilder.forName(name).build();
+        stub = UserLookupGrpc.newBlockingStub(channel).withDeadlineAfter(5, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("GetUserName - 존재하는 사용자")
+    void getUserName() {
+        when(userService.getUserName("user-1")).thenReturn("홍길동");
+
+        GetUserNameResponse response = stub.getUserName(GetUserNameRequest.newBuilder().setUserId("user-1").build());
+
+        assertThat(response.getUserId()).isEqualTo("user-1");
+        assertThat(response.getUserName()).isEqualTo("홍길동");
+    }
+
+    @Test
+    @DisplayName("GetUserName - 없는 사용자는 NOT_FOUND, 빈 ID는 INVALID_ARGUMENT")
+    void getUserNameNotFound() {
+        assertThatThrownBy(() -> stub.getUserName(GetUserNameRequest.newBuilder().setUserId("missing").build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+        assertThatThrownBy(() -> stub.getUserName(GetUserNameRequest.getDefaultInstance()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+    }
+
+    @Test
+    @DisplayName("GetUserName - DB 오류는 UNAVAILABLE")
+    void getUserNameDatabaseUnavailable() {
+        when(userService.getUserName("user-1")).thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertThatThrownBy(() -> stub.getUserName(GetUserNameRequest.newBuilder().setUserId("user-1").build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAVAILABLE));
+    }
+
+    @Test
+    @DisplayName("BatchGetUsers - chunk 단위로 조회하여 찾은 사용자만 요청 순서대로 스트리밍")
+    void batchGetUsersStreamsInRequestOrder() {
+        when(userService.getUserNames(List.of("u5", "u3"))).thenReturn(names("u5", "u3"));
+        when(userService.getUserNames(List.of("missing", "u1"))).thenReturn(names("u1"));
+        when(userService.getUserNames(List.of("u4"))).thenReturn(names("u4"));
+
+        List<String> streamed = new ArrayList<>();
+        stub.batchGetUsers(batch("u5", "u3", "missing", "u1", "u4"))
+                .forEachRemaining(user -> streamed.add(user.getUserId()));
+
+        assertThat(streamed).containsExactly("u5", "u3", "u1", "u4");
+        verify(userService, times(3)).getUserNames(anyList());
+    }
+
+    @Test
+    @DisplayName("BatchGetUsers - 최대 크기 초과는 INVALID_ARGUMENT")
+    void batchGetUsersRejectsOversizedRequest() {
+        Iterator<UserName> users = stub.batchGetUsers(batch("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11"));
+
+        assertThatThrownBy(users::hasNext)
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+    }
+
+    @Test
+    @DisplayName("BatchGetUsers - 클라이언트가 취소하면 남은 chunk를 조회하지 않음")
+    void batchGetUsersStopsOnCancel() throws Exception {
+        when(userService.getUserNames(List.of("u1", "u2"))).thenReturn(names("u1", "u2"));
+        // 두 번째 chunk 조회 중 클라이언트가 취소 (서버 측 Context 취소를 확인한 뒤 반환)
+        when(userService.getUserNames(List.of("u3", "u4"))).thenAnswer(invocation -> {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!Context.current().isCancelled() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            return names("u3", "u4");
+        });
+
+        Context.CancellableContext context = Context.current().withCancellation();
+        Iterator<UserName> users = context.call(() -> stub.batchGetUsers(batch("u1", "u2", "u3", "u4", "u5", "u6")));
+        assertThat(users.next().getUserId()).isEqualTo("u1");
+        context.cancel(null);
+
+        verify(userService, after(500).times(2)).getUserNames(anyList());
+    }
+
+    @Test
+    @DisplayName("ValidateToken - JWKS 키로 서명한 토큰은 유효, 사용자 ID/그룹 반환")
+    void validateSignedToken() {
+        ValidateTokenResponse response = stub.validateToken(ValidateTokenRequest.newBuilder()
+                .setToken(jwks.sign(TestJwks.claims("user-1")))
+                .build());
+
+        assertThat(response.getValid()).isTrue();
+        assertThat(response.getUserId()).isEqualTo("user-1");
+        assertThat(response.getGroupsList()).containsExactly("admin");
+        assertThat(response.getExpiresAtEpochSeconds()).isPositive();
+    }
+
+    @Test
+    @DisplayName("ValidateToken - 서명 없는 위조 토큰은 invalid, 클레임을 반환하지 않음")
+    void rejectUnsignedToken() {
+        ValidateTokenResponse response = stub.validateToken(ValidateTokenRequest.newBuilder()
+                .setToken(TestJwks.unsigned("attacker"))
+                .build());
+
+        assertThat(response.getValid()).isFalse();
+        assertThat(response.getUserId()).isEmpty();
+        assertThat(response.getGroupsList()).isEmpty();
+    }
+
+    private static BatchGetUsersRequest batch(String... userIds) {
+        return BatchGetUsersRequest.newBuilder().addAllUserIds(List.of(userIds)).build();
+    }
+
+    private static List<UserNameResponse> names(String... userIds) {
+        return java.util.Arrays.stream(userIds).map(id -> new UserNameResponse(id, "name-" + id)).toList();
+    }
+}
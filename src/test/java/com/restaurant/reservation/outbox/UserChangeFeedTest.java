@@ -0,0 +1,63 @@
+package com.restaurant.reservation.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.reservation.config.UserOutboxProperties;
+import com.restaurant.reservation.event.UserChangeFeedEvent;
+import com.restaurant.reservation.event.UserChangedEvent;
+import com.restaurant.reservation.support.LocalSchemaDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserChangeFeedTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Object> events = new ArrayList<>();
+    private LocalSchemaDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private UserChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        database = LocalSchemaDatabase.create("feed");
+        jdbcTemplate = database.jdbcTemplate();
+        feed = new UserChangeFeed(jdbcTemplate, events::add, objectMapper, new UserOutboxProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    @DisplayName("기동 이후 커밋된 변경만 한 번씩 발행하고, 늦게 보인 작은 ID도 발행")
+    void publishesEachRecentChangeOnce() throws Exception {
+        insertEvent(1, UserChangedEvent.updated("before", "이전", null), Instant.now().minusSeconds(600));
+        insertEvent(3, UserChangedEvent.updated("user3", "삼", "서울"), Instant.now());
+
+        feed.poll();
+        // ID 2는 3보다 먼저 할당됐지만 나중에 커밋됨
+        insertEvent(2, UserChangedEvent.created("user2", "이", "부산"), Instant.now());
+        feed.poll();
+        feed.poll();
+
+        assertThat(events).hasSize(2);
+        assertThat(events).extracting(event -> ((UserChangeFeedEvent) event).outboxId()).containsExactly(3L, 2L);
+        UserChangeFeedEvent created = (UserChangeFeedEvent) events.get(1);
+        assertThat(created.change()).isEqualTo(UserChangedEvent.created("user2", "이", "부산"));
+    }
+
+    private void insertEvent(long id, UserChangedEvent event, Instant createdAt) throws Exception {
+        jdbcTemplate.update("INSERT INTO USER_OUTBOX (ID, EVENT_TYPE, USER_ID, PAYLOAD, CREATED_AT) VALUES (?, ?, ?, ?, ?)",
+                id, event.type().name(), event.userId(), objectMapper.writeValueAsString(event), Timestamp.from(createdAt));
+    }
+}
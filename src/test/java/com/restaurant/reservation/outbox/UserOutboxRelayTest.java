@@ -0,0 +1,152 @@
+package com.restaurant.reservation.outbox;
+
+import com.restaurant.reservation.config.UserOutboxProperties;
+import com.restaurant.reservation.support.LocalSchemaDatabase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserOutboxRelayTest {
+
+    private LocalSchemaDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private RecordingSink sink;
+
+    @BeforeEach
+    void setUp() {
+        database = LocalSchemaDatabase.create("outbox");
+        jdbcTemplate = database.jdbcTemplate();
+        sink = new RecordingSink();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    @DisplayName("더 큰 ID보다 늦게 커밋된 이벤트도 다음 주기에 전달")
+    void deliversLateCommittedEvent() {
+        UserOutboxRelay relay = relay("node-a");
+        insertEvent(1, Instant.now());
+        insertEvent(3, Instant.now());
+
+        relay.relay();
+        assertThat(sink.deliveredIds()).containsExactly(1L, 3L);
+
+        // ID 2는 1, 3보다 먼저 할당됐지만 나중에 커밋됨
+        insertEvent(2, Instant.now());
+        relay.relay();
+
+        assertThat(sink.deliveredIds()).containsExactly(1L, 3L, 2L);
+        relay.relay();
+        assertThat(sink.deliveredIds()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("settle-seconds가 지난 범위까지만 전달 위치를 전진하고 전달 기록을 정리")
+    void advancesLowWaterMarkOnlyOverSettledRange() {
+        UserOutboxRelay relay = relay("node-a");
+        Instant old = Instant.now().minusSeconds(600);
+        insertEvent(1, old);
+        insertEvent(2, old);
+        insertEvent(4, Instant.now());
+
+        relay.relay();
+
+        assertThat(sink.deliveredIds()).containsExactly(1L, 2L, 4L);
+        assertThat(lastId()).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT EVENT_ID FROM USER_OUTBOX_DELIVERY WHERE SINK_NAME = 'recording'", Long.class))
+                .containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("전달 실패 시 기록하지 않고 다음 주기에 재전달")
+    void retriesFailedBatch() {
+        UserOutboxRelay relay = relay("node-a");
+        insertEvent(1, Instant.now());
+        sink.failNext = true;
+
+        relay.relay();
+        assertThat(sink.deliveredIds()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM USER_OUTBOX_DELIVERY", Integer.class)).isZero();
+
+        relay.relay();
+        assertThat(sink.deliveredIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("리스를 가진 인스턴스만 전달하고, 반납 후 다른 인스턴스가 이어서 전달")
+    void onlyLeaseOwnerDelivers() {
+        UserOutboxRelay first = relay("node-a");
+        RecordingSink firstSink = sink;
+        sink = new RecordingSink();
+        UserOutboxRelay second = relay("node-b");
+        insertEvent(1, Instant.now());
+
+        first.relay();
+        second.relay();
+        assertThat(firstSink.deliveredIds()).containsExactly(1L);
+        assertThat(sink.deliveredIds()).isEmpty();
+
+        insertEvent(2, Instant.now());
+        first.releaseLeases();
+        second.relay();
+        assertThat(sink.deliveredIds()).containsExactly(2L);
+    }
+
+    private UserOutboxRelay relay(String name) {
+        UserOutboxProperties properties = new UserOutboxProperties();
+        properties.setEnabled(true);
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton(name + "-sink", sink);
+        return new UserOutboxRelay(jdbcTemplate, new DataSourceTransactionManager(database.dataSource()), properties,
+                beanFactory.getBeanProvider(UserEventSink.class), new SimpleMeterRegistry());
+    }
+
+    private void insertEvent(long id, Instant createdAt) {
+        jdbcTemplate.update("INSERT INTO USER_OUTBOX (ID, EVENT_TYPE, USER_ID, PAYLOAD, CREATED_AT) VALUES (?, 'UPDATED', ?, '{}', ?)",
+                id, "user" + id, Timestamp.from(createdAt));
+    }
+
+    private long lastId() {
+        return jdbcTemplate.queryForObject("SELECT LAST_ID FROM USER_OUTBOX_OFFSET WHERE SINK_NAME = 'recording'", Long.class);
+    }
+
+    private static class RecordingSink implements UserEventSink {
+
+        private final List<UserOutboxMessage> messages = new ArrayList<>();
+        private boolean failNext;
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void publish(List<UserOutboxMessage> batch) throws Exception {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("수신 측 오류");
+            }
+            messages.addAll(batch);
+        }
+
+        List<Long> deliveredIds() {
+            return messages.stream().map(UserOutboxMessage::id).toList();
+        }
+    }
+}
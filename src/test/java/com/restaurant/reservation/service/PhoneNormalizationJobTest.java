@@ -0,0 +1,95 @@
+package com.restaurant.reservation.service;
+
+import com.restaurant.reservation.support.LocalSchemaDatabase;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PhoneNormalizationJobTest {
+
+    private LocalSchemaDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = LocalSchemaDatabase.create("phone-job");
+        jdbcTemplate = database.jdbcTemplate();
+        jdbcTemplate.update("INSERT INTO USERS (USER_ID, USER_NAME, PHONE_NUMBER) VALUES ('u1', 'a', '010-1234-5678')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 실행 중이면 시작하지 않고, 끝난 뒤에는 시작")
+    void onlyOneInstanceRuns() throws Exception {
+        PhoneNormalizationJob nodeA = job();
+        PhoneNormalizationJob nodeB = job();
+        markRunning("other-node", Instant.now());
+
+        assertThat(nodeA.start(false)).isFalse();
+
+        jdbcTemplate.update("UPDATE MAINTENANCE_CHECKPOINT SET STATUS = 'COMPLETED'");
+        assertThat(nodeA.start(false)).isTrue();
+        assertThat(nodeB.start(false)).isFalse();
+        awaitCompleted(nodeA);
+
+        assertThat(status()).isEqualTo("COMPLETED");
+        assertThat(jdbcTemplate.queryForObject("SELECT PHONE_KEY FROM USERS WHERE USER_ID = 'u1'", String.class))
+                .isNotNull();
+        assertThat(jdbcTemplate.queryForObject("SELECT VERSION FROM USERS WHERE USER_ID = 'u1'", Long.class))
+                .isEqualTo(1L);
+        assertThat(nodeB.start(false)).isTrue();
+        awaitCompleted(nodeB);
+    }
+
+    @Test
+    @DisplayName("실행 인스턴스의 리스가 만료되면 다른 인스턴스가 넘겨받음")
+    void takesOverStaleLease() throws Exception {
+        markRunning("crashed-node", Instant.now().minus(Duration.ofHours(1)));
+
+        PhoneNormalizationJob job = job();
+        assertThat(job.start(false)).isTrue();
+        awaitCompleted(job);
+        assertThat(status()).isEqualTo("COMPLETED");
+    }
+
+    private PhoneNormalizationJob job() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.getCache()).thenReturn(mock(Cache.class));
+        return new PhoneNormalizationJob(jdbcTemplate, entityManagerFactory, new DataSourceTransactionManager(database.dataSource()),
+                mock(UserVersionCache.class), 100, 2, 2, 10, 300);
+    }
+
+    private void markRunning(String owner, Instant updatedAt) {
+        jdbcTemplate.update("INSERT INTO MAINTENANCE_CHECKPOINT (JOB_NAME, LAST_KEY, STATUS, UPDATED_AT, OWNER) " +
+                "VALUES ('phone-normalization', NULL, 'RUNNING', ?, ?)", Timestamp.from(updatedAt), owner);
+    }
+
+    private String status() {
+        return jdbcTemplate.queryForObject("SELECT STATUS FROM MAINTENANCE_CHECKPOINT", String.class);
+    }
+
+    private static void awaitCompleted(PhoneNormalizationJob job) throws InterruptedException {
+        for (int i = 0; i < 100 && job.status().isRunning(); i++) {
+            Thread.sleep(50);
+        }
+        assertThat(job.status().isRunning()).isFalse();
+        assertThat(job.status().getError()).isNull();
+    }
+}
@@ -0,0 +1,95 @@
+package com.restaurant.reservation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.reservation.dto.BulkImportResultDto;
+import com.restaurant.reservation.entity.User;
+import com.restaurant.reservation.repository.UserRepository;
+import com.restaurant.reservation.util.PhoneNumberUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserBulkImportServiceTest {
+
+    static final String CSV = """
+            userId,userName,phoneNumber,userLocation
+            existing-id,가,010-1111-0001,서울
+            existing-phone,나,010-1111-0002,서울
+            racer,다,010-1111-0003,서울
+            fresh,라,010-1111-0004,서울
+            """;
+
+    UserRepository userRepository = mock(UserRepository.class);
+    JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    UserBulkImportService service = new UserBulkImportService(userRepository, jdbcTemplate, transactionManager,
+            new ObjectMapper(), mock(ApplicationEventPublisher.class), 1000, 100);
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(userRepository.findExistingUserIds(anyCollection())).thenReturn(List.of("existing-id"));
+        when(userRepository.findExistingPhoneKeys(anyCollection()))
+                .thenReturn(List.of(PhoneNumberUtil.toPhoneKey("010-1111-0002")));
+    }
+
+    @Test
+    @DisplayName("배치 INSERT 성공 시 DB 중복 행만 한 번씩 거부")
+    void batchInsertRejectsExistingRowsOnce() throws Exception {
+        BulkImportResultDto result = service.importUsers(new StringReader(CSV), UserBulkImportService.Format.CSV, true);
+
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getRejectedRows()).isEqualTo(2);
+        assertThat(result.getRejects()).extracting(BulkImportResultDto.Reject::getUserId)
+                .containsExactly("existing-id", "existing-phone");
+    }
+
+    @Test
+    @DisplayName("배치 INSERT가 제약 조건에 걸리면 DB 중복으로 제외된 행은 재시도하지 않고 한 번만 거부")
+    @SuppressWarnings("unchecked")
+    void batchRollbackRetriesOnlyInsertableRows() throws Exception {
+        doThrow(new DuplicateKeyException("동시 가입"))
+                .when(jdbcTemplate).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        doAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            if ("racer".equals(user.getUserId())) {
+                throw new DataIntegrityViolationException("동시 가입");
+            }
+            return user;
+        }).when(userRepository).save(any(User.class));
+
+        BulkImportResultDto result = service.importUsers(new StringReader(CSV), UserBulkImportService.Format.CSV, true);
+
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getImportedRows()).isEqualTo(1);
+        assertThat(result.getRejectedRows()).isEqualTo(3);
+        assertThat(result.getImportedRows() + result.getRejectedRows()).isEqualTo(result.getTotalRows());
+        assertThat(result.getRejects()).extracting(BulkImportResultDto.Reject::getUserId)
+                .containsExactlyInAnyOrder("existing-id", "existing-phone", "racer");
+        verify(userRepository, times(2)).save(any(User.class));
+    }
+}
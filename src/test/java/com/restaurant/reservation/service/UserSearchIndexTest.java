@@ -0,0 +1,138 @@
+package com.restaurant.reservation.service;
+
+import com.restaurant.reservation.dto.view.UserSearchHitView;
+import com.restaurant.reservation.event.UserChangeFeedEvent;
+import com.restaurant.reservation.event.UserChangedEvent;
+import com.restaurant.reservation.support.LocalSchemaDatabase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSearchIndexTest {
+
+    private LocalSchemaDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private UserSearchIndex index;
+    // 인덱스가 커넥션을 획득할 때의 읽기 전용 트랜잭션 여부 (ReadWriteRoutingDataSource의 라우팅 기준)
+    private final List<Boolean> connectionReadOnlyFlags = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = LocalSchemaDatabase.create("search");
+        jdbcTemplate = database.jdbcTemplate();
+
+        // 운영과 같이 LazyConnectionDataSourceProxy로 감싸 트랜잭션 속성이 확정된 뒤 커넥션을 획득
+        DataSource recordingDataSource = new LazyConnectionDataSourceProxy(new DelegatingDataSource(database.dataSource()) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                connectionReadOnlyFlags.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+                return super.getConnection();
+            }
+        });
+        index = new UserSearchIndex(new JdbcTemplate(recordingDataSource),
+                new DataSourceTransactionManager(recordingDataSource), new SimpleMeterRegistry(), 1000, 100, 2);
+        // 프록시의 기본 커넥션 속성 확인(첫 획득 시 1회)은 기록에서 제외
+        recordingDataSource.getConnection().close();
+        connectionReadOnlyFlags.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    @DisplayName("접두어 합집합 결과가 단순 필터링 결과와 같음 (중복 없음)")
+    void prefixUnionMatchesNaiveScan() {
+        Random random = new Random(42);
+        String[] syllables = {"ka", "kan", "kang", "kim", "ki", "kor", "lee", "le", "park", "pa"};
+        for (int i = 0; i < 300; i++) {
+            insertUser("u" + i, syllables[random.nextInt(syllables.length)] + syllables[random.nextInt(syllables.length)],
+                    syllables[random.nextInt(syllables.length)] + " seoul");
+        }
+        index.rebuild();
+
+        for (String prefix : List.of("k", "ka", "kan", "ki", "le", "pa", "seo", "zz")) {
+            List<String> expected = jdbcTemplate.queryForList(
+                    "SELECT USER_ID FROM USERS", String.class).stream()
+                    .filter(userId -> prefix.length() < 2
+                            ? hasTerm(userId, prefix::equals)
+                            : hasTerm(userId, term -> term.startsWith(prefix)))
+                    .toList();
+            List<String> actual = index.search(prefix, 1000).stream().map(UserSearchHitView::userId).toList();
+            assertThat(actual).as("prefix=%s", prefix).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("최소 길이보다 짧은 검색 단어는 같은 단어만 찾음")
+    void shortTermMatchesExactly() {
+        insertUser("a", "k", "seoul");
+        insertUser("b", "kim", "seoul");
+        index.rebuild();
+
+        assertThat(index.search("k", 10)).extracting(UserSearchHitView::userId).containsExactly("a");
+        assertThat(index.search("ki", 10)).extracting(UserSearchHitView::userId).containsExactly("b");
+    }
+
+    @Test
+    @DisplayName("재구축 시 DB에서 삭제된 사용자는 빠지고, 변경 피드 이벤트는 반영")
+    void rebuildRemovesDeletedUsersAndAppliesFeed() {
+        insertUser("a", "alice", "seoul");
+        insertUser("b", "bob", "busan");
+        index.rebuild();
+        assertThat(index.search("bob", 10)).hasSize(1);
+
+        jdbcTemplate.update("DELETE FROM USERS WHERE USER_ID = 'b'");
+        index.onUserChangeFeed(new UserChangeFeedEvent(1L, UserChangedEvent.updated("a", "alicia", "seoul"), Instant.now()));
+        assertThat(index.search("alicia", 10)).extracting(UserSearchHitView::userId).containsExactly("a");
+
+        index.rebuild();
+        assertThat(index.search("bob", 10)).isEmpty();
+        assertThat(index.search("seoul", 10)).extracting(UserSearchHitView::userId).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("구축 스캔은 읽기 전용 트랜잭션에서 실행 (Standby로 라우팅)")
+    void rebuildScansInReadOnlyTransaction() {
+        insertUser("a", "alice", "seoul");
+
+        index.rebuild();
+
+        assertThat(index.search("alice", 10)).hasSize(1);
+        assertThat(connectionReadOnlyFlags).isNotEmpty().containsOnly(true);
+    }
+
+    private boolean hasTerm(String userId, java.util.function.Predicate<String> matcher) {
+        String text = jdbcTemplate.queryForObject(
+                "SELECT USER_NAME || ' ' || USER_LOCATION FROM USERS WHERE USER_ID = ?", String.class, userId);
+        for (String term : text.split(" ")) {
+            if (matcher.test(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void insertUser(String userId, String userName, String location) {
+        jdbcTemplate.update("INSERT INTO USERS (USER_ID, USER_NAME, PHONE_NUMBER, USER_LOCATION) VALUES (?, ?, '010-0000-0000', ?)",
+                userId, userName, location);
+    }
+}
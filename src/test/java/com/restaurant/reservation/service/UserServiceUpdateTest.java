@@ -0,0 +1,141 @@
+package com.restaurant.reservation.service;
+
+import com.restaurant.reservation.dto.UserUpdateRequestDto;
+import com.restaurant.reservation.dto.view.UserProfileView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사용자 정보 부분 수정 (버전 조건 UPDATE) - H2 로컬 스키마(db/local-schema.sql) 기준
+ *
+ * 운영과 같이 UserService 트랜잭션이 커밋/롤백되도록 테스트 트랜잭션은 사용하지 않습니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-update-${random.uuid};MODE=Oracle;DB_CLOSE_DELAY=-1",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/local-schema.sql",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.hibernate.naming.physical-strategy=org.hibernate.boot.model.naming.PhysicalNamingStrategyStandardImpl"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(UserService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserServiceUpdateTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM USERS");
+        insertUser("kim", "김철수", "+82 10 1234 5678", "821012345678", "서울", 3);
+        insertUser("lee", "이영희", "+82 10 9999 0000", "821099990000", "부산", 0);
+    }
+
+    @Test
+    @DisplayName("변경된 컬럼만 수정하고 버전을 1 증가")
+    void updatesChangedColumnsAndIncrementsVersion() {
+        UserProfileView updated = userService.updateUserInfo("kim",
+                new UserUpdateRequestDto(null, "010-2222-3333", null, 3L));
+
+        assertThat(updated.version()).isEqualTo(4L);
+        assertThat(updated.phoneNumber().international()).isEqualTo("+82 10 2222 3333");
+        assertThat(row("kim"))
+                .containsEntry("USER_NAME", "김철수")
+                .containsEntry("PHONE_NUMBER", "+82 10 2222 3333")
+                .containsEntry("PHONE_KEY", "821022223333")
+                .containsEntry("USER_LOCATION", "서울");
+    }
+
+    @Test
+    @DisplayName("버전을 생략하면 현재 버전 기준으로 수정")
+    void updatesCurrentVersionWhenVersionOmitted() {
+        UserProfileView updated = userService.updateUserInfo("kim",
+                new UserUpdateRequestDto("김영수", null, null, null));
+
+        assertThat(updated.version()).isEqualTo(4L);
+        assertThat(updated.userName()).isEqualTo("김영수");
+    }
+
+    @Test
+    @DisplayName("요청 버전이 현재 버전과 다르면 충돌 (409), 변경 없음")
+    void staleVersionConflicts() {
+        assertThatThrownBy(() -> userService.updateUserInfo("kim",
+                new UserUpdateRequestDto("김영수", null, null, 2L)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(row("kim")).containsEntry("USER_NAME", "김철수");
+        assertThat(version("kim")).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("수정된 행이 없을 때 사용자가 없으면 충돌이 아닌 사용자 없음")
+    void missingUserIsNotConflict() {
+        assertThatThrownBy(() -> userService.updateUserInfo("nobody",
+                new UserUpdateRequestDto("홍길동", null, null, 0L)))
+                .isNotInstanceOf(ObjectOptimisticLockingFailureException.class)
+                .hasMessage("사용자를 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 번호(표시 형식만 다름)로 변경하면 중복, 변경 없음")
+    void duplicatePhoneNumberIsRejected() {
+        assertThatThrownBy(() -> userService.updateUserInfo("kim",
+                new UserUpdateRequestDto("김영수", "010-9999-0000", null, 3L)))
+                .hasMessage("이미 등록된 전화번호입니다.");
+
+        assertThat(row("kim"))
+                .containsEntry("USER_NAME", "김철수")
+                .containsEntry("PHONE_KEY", "821012345678");
+        assertThat(version("kim")).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 번호(전화번호 키 없음)로는 변경 불가, 변경 없음")
+    void invalidPhoneNumberIsRejected() {
+        insertUser("park", "박민수", "000-0000-0000", null, "대구", 0);
+
+        // 같은 임시 번호를 가진 사용자가 있어도 키가 없으므로 유니크 제약으로는 막을 수 없음
+        assertThatThrownBy(() -> userService.updateUserInfo("kim",
+                new UserUpdateRequestDto(null, "000-0000-0000", null, 3L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 전화번호입니다.");
+
+        assertThat(row("kim"))
+                .containsEntry("PHONE_NUMBER", "+82 10 1234 5678")
+                .containsEntry("PHONE_KEY", "821012345678");
+        assertThat(version("kim")).isEqualTo(3L);
+    }
+
+    private void insertUser(String userId, String userName, String phoneNumber, String phoneKey,
+                            String location, long version) {
+        jdbcTemplate.update("INSERT INTO USERS (USER_ID, USER_NAME, PHONE_NUMBER, PHONE_KEY, USER_LOCATION, VERSION) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", userId, userName, phoneNumber, phoneKey, location, version);
+    }
+
+    private Map<String, Object> row(String userId) {
+        return jdbcTemplate.queryForMap(
+                "SELECT USER_NAME, PHONE_NUMBER, PHONE_KEY, USER_LOCATION FROM USERS WHERE USER_ID = ?", userId);
+    }
+
+    private long version(String userId) {
+        return jdbcTemplate.queryForObject("SELECT VERSION FROM USERS WHERE USER_ID = ?", Long.class, userId);
+    }
+}
@@ -0,0 +1,46 @@
+package com.restaurant.reservation.service;
+
+import com.restaurant.reservation.event.UserChangeFeedEvent;
+import com.restaurant.reservation.event.UserChangedEvent;
+import com.restaurant.reservation.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserVersionCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserVersionCache cache = new UserVersionCache(userRepository, new SimpleMeterRegistry(), 30, 100);
+
+    @Test
+    @DisplayName("다른 인스턴스에서 수정되면 /me용 ETag는 바로 바뀌고, 이름용 캐시는 피드 이벤트로 무효화")
+    void otherNodeUpdate() {
+        when(userRepository.findVersionByUserId("user1")).thenReturn(Optional.of(1L));
+        assertThat(cache.etag("user1")).isEqualTo("\"user1-1\"");
+
+        // 다른 인스턴스에서 수정 (이 인스턴스에는 UserChangedEvent가 발행되지 않음)
+        when(userRepository.findVersionByUserId("user1")).thenReturn(Optional.of(2L));
+
+        assertThat(cache.currentEtag("user1")).isEqualTo("\"user1-2\"");
+        assertThat(cache.etag("user1")).isEqualTo("\"user1-1\"");
+
+        cache.onUserChangeFeed(new UserChangeFeedEvent(10L, UserChangedEvent.updated("user1", "이름", null), Instant.now()));
+        assertThat(cache.etag("user1")).isEqualTo("\"user1-2\"");
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 ETag 없음")
+    void missingUser() {
+        when(userRepository.findVersionByUserId("none")).thenReturn(Optional.empty());
+
+        assertThat(cache.etag("none")).isNull();
+        assertThat(cache.currentEtag("none")).isNull();
+    }
+}
@@ -0,0 +1,61 @@
+package com.restaurant.reservation.support;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.UUID;
+
+/**
+ * 테스트용 H2 인메모리 DB (Oracle 모드, db/local-schema.sql 적용)
+ *
+ * 테스트마다 이름 뒤에 UUID를 붙여 새 DB를 만들고, close()에서 SHUTDOWN으로 정리합니다.
+ *
+ * <pre>
+ * database = LocalSchemaDatabase.create("outbox");   // @BeforeEach
+ * database.close();                                   // @AfterEach
+ * </pre>
+ */
+public final class LocalSchemaDatabase implements AutoCloseable {
+
+    private final String url;
+    private final DriverManagerDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    private LocalSchemaDatabase(String url) {
+        this.url = url;
+        this.dataSource = new DriverManagerDataSource(url);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * @param name DB 이름 접두어 (테스트 로그/오류 메시지 구분용)
+     */
+    public static LocalSchemaDatabase create(String name) {
+        LocalSchemaDatabase database = new LocalSchemaDatabase(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=Oracle;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/local-schema.sql")).execute(database.dataSource);
+        return database;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public DriverManagerDataSource dataSource() {
+        return dataSource;
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    /**
+     * DB 삭제 (테스트에서 dataSource의 URL을 바꿨더라도 원래 DB를 정리)
+     */
+    @Override
+    public void close() {
+        new JdbcTemplate(new DriverManagerDataSource(url)).execute("SHUTDOWN");
+    }
+}
@@ -0,0 +1,173 @@
+package com.restaurant.reservation.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단일 패스 PhoneNumberUtil과 이전 정규식 구현(LegacyPhoneNumberUtil)의 차등 테스트
+ * 
+ * 실제 입력 형식을 흉내 낸 문자열과 임의 문자열을 고정 시드로 생성해 모든 공개 메서드의 결과를 비교합니다.
+ * 알려진 차이: toKoreanFormat에 자릿수가 부족한 +82 입력을 주면 이전 구현은 StringIndexOutOfBoundsException,
+ * 새 구현은 입력값을 그대로 반환합니다.
+ */
+class PhoneNumberUtilDifferentialTest {
+
+    private static final int CORPUS_SIZE = 1_000_000;
+    private static final long SEED = 20261018L;
+
+    private static final String[] PREFIXES = {"", "", "0", "+82", "82", "+0", "+01", "+82 0", "+8", "8", "+", "00", "+820"};
+    private static final String[] SEPARATORS = {"", "", " ", "-", "(", ")", "\t", "\n", "\u000B", "\f", "\r",
+            "\u00A0", "\u3000", ".", "/", "  ", " - "};
+    private static final char[] NOISE = {'a', 'Z', '+', '#', '*', '\uFF10', '\u0663', '가', ' ', '_', '0', '1', '9'};
+
+    @Test
+    @DisplayName("생성한 입력 전체에서 이전 정규식 구현과 결과가 같음 (toKoreanFormat 짧은 입력의 예외 제외)")
+    void matchesLegacyImplementation() {
+        Random random = new Random(SEED);
+        List<String> mismatches = new ArrayList<>();
+        int legacyThrew = 0;
+
+        for (int i = 0; i < CORPUS_SIZE && mismatches.size() < 20; i++) {
+            String input = generate(random);
+
+            compare("normalizePhoneNumber", input, PhoneNumberUtil::normalizePhoneNumber,
+                    LegacyPhoneNumberUtil::normalizePhoneNumber, mismatches);
+            compare("isValidPhoneNumber", input, PhoneNumberUtil::isValidPhoneNumber,
+                    LegacyPhoneNumberUtil::isValidPhoneNumber, mismatches);
+            compare("toPhoneKey", input, PhoneNumberUtil::toPhoneKey,
+                    LegacyPhoneNumberUtil::toPhoneKey, mismatches);
+
+            // 표시 형식 변환은 정규화 결과(+82 ...)와 임의 입력 모두로 비교
+            String normalized = safe(() -> LegacyPhoneNumberUtil.normalizePhoneNumber(input));
+            for (String formatInput : new String[] {input, normalized}) {
+                String expected;
+                try {
+                    expected = LegacyPhoneNumberUtil.toKoreanFormat(formatInput);
+                } catch (StringIndexOutOfBoundsException e) {
+                    legacyThrew++;
+                    String actual = PhoneNumberUtil.toKoreanFormat(formatInput);
+                    if (!Objects.equals(actual, formatInput)) {
+                        mismatches.add("toKoreanFormat(" + quote(formatInput) + "): legacy threw, new=" + quote(actual));
+                    }
+                    continue;
+                }
+                String actual = PhoneNumberUtil.toKoreanFormat(formatInput);
+                if (!Objects.equals(actual, expected)) {
+                    mismatches.add("toKoreanFormat(" + quote(formatInput) + "): legacy=" + quote(expected) + ", new=" + quote(actual));
+                }
+            }
+        }
+
+        assertThat(mismatches).isEmpty();
+        // 알려진 차이 구간이 실제로 생성되었는지 확인
+        assertThat(legacyThrew).isPositive();
+    }
+
+    @Test
+    @DisplayName("알려진 차이: 자릿수가 부족한 +82 입력은 예외 대신 입력값 그대로")
+    void shortInternationalInputIsReturnedUnchanged() {
+        for (String input : new String[] {"+82", "+82 10", "+82 10 12", "+82 2 12", "+82 31 1", "+82 01"}) {
+            assertThat(PhoneNumberUtil.toKoreanFormat(input)).isEqualTo(input);
+        }
+    }
+
+    private static String generate(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int shape = random.nextInt(10);
+        if (shape < 7) {
+            // 접두어 + 구분 문자가 섞인 숫자 (휴대폰/서울/지역번호 형태 위주)
+            builder.append(PREFIXES[random.nextInt(PREFIXES.length)]);
+            String head = switch (random.nextInt(4)) {
+                case 0 -> "10";
+                case 1 -> "2";
+                case 2 -> String.valueOf(30 + random.nextInt(70));
+                default -> "";
+            };
+            builder.append(head);
+            int digits = random.nextInt(12);
+            for (int d = 0; d < digits; d++) {
+                if (random.nextInt(4) == 0) {
+                    builder.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+                }
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+            if (random.nextInt(20) == 0) {
+                builder.insert(random.nextInt(builder.length() + 1), NOISE[random.nextInt(NOISE.length)]);
+            }
+            if (random.nextInt(10) == 0) {
+                builder.insert(0, SEPARATORS[random.nextInt(SEPARATORS.length)]);
+            }
+        } else if (shape < 9) {
+            // 숫자/구분 문자/잡음 문자 임의 조합
+            int length = random.nextInt(18);
+            for (int c = 0; c < length; c++) {
+                int kind = random.nextInt(4);
+                if (kind < 2) {
+                    builder.append((char) ('0' + random.nextInt(10)));
+                } else if (kind == 2) {
+                    builder.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+                } else {
+                    builder.append(NOISE[random.nextInt(NOISE.length)]);
+                }
+            }
+        } else {
+            // 공백류만 있는 입력
+            int length = random.nextInt(4);
+            for (int c = 0; c < length; c++) {
+                builder.append(SEPARATORS[2 + random.nextInt(SEPARATORS.length - 2)]);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static <T> void compare(String method, String input, Function<String, T> actualFunction,
+                                    Function<String, T> legacyFunction, List<String> mismatches) {
+        Object expected;
+        try {
+            expected = legacyFunction.apply(input);
+        } catch (RuntimeException e) {
+            expected = e.getClass().getSimpleName();
+        }
+        Object actual;
+        try {
+            actual = actualFunction.apply(input);
+        } catch (RuntimeException e) {
+            actual = e.getClass().getSimpleName();
+        }
+        if (!Objects.equals(actual, expected)) {
+            mismatches.add(method + "(" + quote(input) + "): legacy=" + expected + ", new=" + actual);
+        }
+    }
+
+    private static String safe(Supplier<String> supplier) {
+        try {
+            return supplier.get();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c < 0x20 || c > 0x7E) {
+                quoted.append(String.format("\\u%04X", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
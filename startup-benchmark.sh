@@ -0,0 +1,91 @@
+#!/bin/bash
+
+# Team FOG User Service 기동 시간 벤치마크
+# 모드별로 프로세스 시작부터 첫 정상 헬스 응답(/health/elb 200)까지 걸린 시간을 측정합니다.
+#
+#   default : java -jar app.jar (현재 기본 실행 방식)
+#   cds     : 추출 jar + AppCDS 아카이브
+#   aot-cds : Spring AOT 빌드 + 추출 jar + AppCDS 아카이브 (Dockerfile SPRING_AOT=true 와 동일)
+#
+# 사용법: ./startup-benchmark.sh [반복 횟수(기본 5)]
+# 환경 변수: PROFILE(기본 local), PORT(기본 8080), JAVA(기본 java), GRADLE(기본 ./gradlew), APP_ARGS(추가 실행 인자)
+
+set -e
+
+RUNS=${1:-5}
+PROFILE=${PROFILE:-local}
+PORT=${PORT:-8080}
+JAVA=${JAVA:-java}
+GRADLE=${GRADLE:-./gradlew}
+WORK_DIR=${WORK_DIR:-build/startup-benchmark}
+RESULT_FILE="$WORK_DIR/results.txt"
+
+cd "$(dirname "$0")"
+rm -rf "$WORK_DIR"
+mkdir -p "$WORK_DIR"
+
+echo "🚀 기동 시간 벤치마크 시작 (profile=$PROFILE, runs=$RUNS)"
+
+# 1. 실행 파일 준비
+echo "📦 기본 jar 빌드 중..."
+$GRADLE bootJar -q
+mkdir -p "$WORK_DIR/default" && cp build/libs/app.jar "$WORK_DIR/default/app.jar"
+"$JAVA" -Djarmode=tools -jar build/libs/app.jar extract --destination "$WORK_DIR/cds" > /dev/null
+
+echo "📦 AOT jar 빌드 중 (aotProfile=$PROFILE)..."
+$GRADLE bootJar -q -Paot -PaotProfile="$PROFILE"
+"$JAVA" -Djarmode=tools -jar build/libs/app.jar extract --destination "$WORK_DIR/aot-cds" > /dev/null
+
+# 기본 jar로 되돌림 (이후 빌드/실행에 AOT 산출물이 섞이지 않도록)
+$GRADLE bootJar -q
+
+# 2. AppCDS 학습 실행 (컨텍스트 초기화 직후 종료하며 로드된 클래스를 아카이브에 기록)
+train() {
+    local dir=$1
+    local aot=$2
+    echo "🧪 AppCDS 학습 실행: $dir"
+    AWS_REGION=${AWS_REGION:-ap-northeast-2} "$JAVA" -XX:ArchiveClassesAtExit="$dir/app.jsa" -Xlog:cds=off -Dspring.context.exit=onRefresh -Dspring.aot.enabled="$aot" \
+        -jar "$dir/app.jar" --spring.profiles.active="$PROFILE" --logging.level.root=WARN $APP_ARGS > "$dir/training.log" 2>&1
+}
+train "$WORK_DIR/cds" false
+train "$WORK_DIR/aot-cds" true
+
+# 3. 측정: 프로세스 시작 ~ 첫 /health/elb 200 응답 (ms)
+measure() {
+    local start end pid
+    start=$(date +%s%N)
+    AWS_REGION=${AWS_REGION:-ap-northeast-2} "$@" --spring.profiles.active="$PROFILE" --server.port="$PORT" $APP_ARGS > "$WORK_DIR/run.log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "http://localhost:$PORT/health/elb"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "❌ 기동 실패 (로그: $WORK_DIR/run.log)" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    end=$(date +%s%N)
+    kill "$pid" && wait "$pid" 2>/dev/null || true
+    echo $(( (end - start) / 1000000 ))
+}
+
+run_mode() {
+    local mode=$1
+    shift
+    local times=()
+    for i in $(seq 1 "$RUNS"); do
+        times+=("$(measure "$@")")
+    done
+    local sorted
+    sorted=$(printf '%s\n' "${times[@]}" | sort -n)
+    local median min
+    median=$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")
+    min=$(echo "$sorted" | head -1)
+    printf '%-8s median=%6sms min=%6sms runs=[%s]\n' "$mode" "$median" "$min" "${times[*]}" | tee -a "$RESULT_FILE"
+}
+
+echo "⏱️  측정 중..."
+run_mode default "$JAVA" -jar "$WORK_DIR/default/app.jar"
+run_mode cds "$JAVA" -XX:SharedArchiveFile="$WORK_DIR/cds/app.jsa" -jar "$WORK_DIR/cds/app.jar"
+run_mode aot-cds "$JAVA" -XX:SharedArchiveFile="$WORK_DIR/aot-cds/app.jsa" -Dspring.aot.enabled=true -jar "$WORK_DIR/aot-cds/app.jar"
+
+echo "✅ 벤치마크 완료: $RESULT_FILE"